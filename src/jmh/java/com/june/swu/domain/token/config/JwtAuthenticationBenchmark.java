@@ -0,0 +1,90 @@
+package com.june.swu.domain.token.config;
+
+import com.june.swu.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건에서 Jwt 검증, 해석에 드는 CPU 시간 비교
+ *
+ * legacy: 필터에서 validationToken + getAuthentication, 서비스에서 같은 작업을 한 번 더 수행하던 방식 (서명 검증 4회)
+ * parseOnce: 필터에서 authenticate 로 한 번만 검증하고 이후에는 principal 을 사용하는 방식 (서명 검증 1회)
+ * stateless: parseOnce 와 같되 회원을 조회하지 않고 claims 로 인증정보를 만드는 방식
+ * statelessCached: stateless 에 검증된 토큰 캐시를 더한 방식 (같은 토큰이 반복해서 들어오는 경우)
+ *
+ * 회원 조회는 DB 없이 고정된 회원을 돌려주도록 하여 토큰 처리 비용만 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+    private static final List<String> ROLES = Collections.singletonList("ROLE_USER");
+
+    private UserDetailsService userDetailsService;
+    private JwtProvider jwtProvider;
+    private JwtProvider statelessJwtProvider;
+    private JwtProvider cachedJwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        User user = User.builder()
+                .email("bench@swu.com")
+                .name("bench")
+                .nickName("bench")
+                .roles(ROLES)
+                .build();
+        userDetailsService = username -> user;
+
+        // 비활성화 회원 목록이 적재되지 않은 provider 는 회원을 조회하는 방식으로 동작
+        jwtProvider = createJwtProvider(new RevokedUserRegistry(), 0);
+
+        RevokedUserRegistry revokedUserRegistry = new RevokedUserRegistry();
+        revokedUserRegistry.load(Collections.emptyList());
+        statelessJwtProvider = createJwtProvider(revokedUserRegistry, 0);
+        cachedJwtProvider = createJwtProvider(revokedUserRegistry, 10_000);
+
+        token = jwtProvider.createTokenDto(1L, ROLES, "bench@swu.com").getAccessToken();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        // 필터와 서비스가 각각 검증 후 다시 해석
+        for (int i = 0; i < 2; i++) {
+            blackhole.consume(jwtProvider.validationToken(token));
+            blackhole.consume(userDetailsService.loadUserByUsername(String.valueOf(jwtProvider.getUserPk(token))));
+        }
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole blackhole) {
+        blackhole.consume(jwtProvider.authenticate(token));
+    }
+
+    @Benchmark
+    public void stateless(Blackhole blackhole) {
+        blackhole.consume(statelessJwtProvider.authenticate(token));
+    }
+
+    @Benchmark
+    public void statelessCached(Blackhole blackhole) {
+        blackhole.consume(cachedJwtProvider.authenticate(token));
+    }
+
+    private JwtProvider createJwtProvider(RevokedUserRegistry revokedUserRegistry, long cacheSize) throws Exception {
+        JwtProvider provider = new JwtProvider(userDetailsService, revokedUserRegistry,
+                new VerifiedTokenCache(new SimpleMeterRegistry(), cacheSize), new RevokedTokenRegistry());
+        Field secretKey = JwtProvider.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(provider, "benchmark-secret");
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,86 @@
+package com.june.swu.domain.token.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.Base64UrlCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급, 검증 처리량 비교
+ *
+ * stringKey*: 문자열 키를 호출마다 넘기고 검증할 때마다 parser 를 새로 만들던 기존 방식
+ * prebuiltKey*: 미리 만든 SecretKey 와 공유 parser 를 사용하는 JwtProvider
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+    private static final List<String> ROLES = Collections.singletonList("ROLE_USER");
+    private static final long ACCESS_TOKEN_VALID_MILLISECOND = 60 * 60 * 1000L;
+    private static final long REFRESH_TOKEN_VALID_MILLISECOND = 14 * 24 * 60 * 60 * 1000L;
+
+    private JwtProvider jwtProvider;
+    private String encodedSecretKey;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        String secret = "benchmark-secret";
+        encodedSecretKey = Base64UrlCodec.BASE64URL.encode(secret.getBytes(StandardCharsets.UTF_8));
+
+        jwtProvider = new JwtProvider(username -> null, new RevokedUserRegistry(),
+                new VerifiedTokenCache(new SimpleMeterRegistry(), 0), new RevokedTokenRegistry());
+        Field secretKey = JwtProvider.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtProvider, secret);
+        jwtProvider.init();
+
+        token = jwtProvider.createTokenDto(1L, ROLES, "bench@swu.com").getAccessToken();
+    }
+
+    @Benchmark
+    public String[] stringKeyIssue() {
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put("roles", ROLES);
+        Date now = new Date();
+
+        String accessToken = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_VALID_MILLISECOND))
+                .signWith(SignatureAlgorithm.HS256, encodedSecretKey)
+                .compact();
+        String refreshToken = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_VALID_MILLISECOND))
+                .signWith(SignatureAlgorithm.HS256, encodedSecretKey)
+                .compact();
+        return new String[]{accessToken, refreshToken};
+    }
+
+    @Benchmark
+    public Object prebuiltKeyIssue() {
+        return jwtProvider.createTokenDto(1L, ROLES, "bench@swu.com");
+    }
+
+    @Benchmark
+    public Claims stringKeyVerify() {
+        return Jwts.parser().setSigningKey(encodedSecretKey).parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public boolean prebuiltKeyVerify() {
+        return jwtProvider.validationToken(token);
+    }
+}
@@ -0,0 +1,54 @@
+package com.june.swu.domain.user.entity;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 권한 변환 비용 비교
+ *
+ * elementCollection*: 호출마다 SimpleGrantedAuthority 목록을 새로 만들던 기존 방식
+ * roleMask*: 회원 행의 비트 마스크 값 하나로 미리 만들어 둔 목록을 공유하는 방식
+ * 인증 시 GrantedAuthority 목록을 얻는 비용만 측정합니다.
+ * (엔티티 적재와 DB 왕복은 포함하지 않으며, 기존 방식은 회원마다 권한 테이블 조회가 한 번 더 필요함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RoleBenchmark {
+    private List<String> roles;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        roles = List.of("ROLE_USER");
+        user = User.builder()
+                .email("bench@swu.com")
+                .name("bench")
+                .nickName("bench")
+                .roles(roles)
+                .build();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> elementCollectionAuthorities() {
+        return roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> roleMaskAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public void roleMaskAuthoritiesFromToken(Blackhole blackhole) {
+        // 토큰의 roles claim 으로 principal 을 만드는 경우
+        blackhole.consume(Role.authorities(Role.toKnownMask(roles)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.june.swu.global.exception;
+
+import com.june.swu.domain.token.exception.CAccessTokenException;
+import net.rakugakibox.util.YamlResourceBundle;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예외 처리 경로 비용 비교 (잘못된 토큰 요청 한 건)
+ *
+ * legacy: 스택 트레이스를 채우는 예외 + 요청마다 MessageSource 해석, Integer.parseInt
+ * precomputed: 스택 트레이스를 생략하는 예외 + ErrorCodeTable 조회
+ * 실제 요청처럼 필터, 서블릿 호출 깊이를 흉내 내기 위해 STACK_DEPTH 만큼 들어간 곳에서 예외를 던집니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+    private static final int STACK_DEPTH = 100;
+    private static final String BASENAME = "i18n/exception";
+
+    private ResourceBundleMessageSource messageSource;
+    private ErrorCodeTable errorCodeTable;
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        messageSource = new ResourceBundleMessageSource() {
+            @Override
+            protected ResourceBundle doGetBundle(String basename, Locale locale) throws MissingResourceException {
+                return ResourceBundle.getBundle(basename, locale, YamlResourceBundle.Control.INSTANCE);
+            }
+        };
+        messageSource.setBasename(BASENAME);
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setAlwaysUseMessageFormat(true);
+        messageSource.setUseCodeAsDefaultMessage(true);
+        errorCodeTable = new ErrorCodeTable(messageSource, BASENAME);
+        locale = Locale.KOREAN;
+    }
+
+    @Benchmark
+    public Object legacy() {
+        try {
+            throwAt(STACK_DEPTH, true);
+            return null;
+        } catch (RuntimeException e) {
+            int code = Integer.parseInt(messageSource.getMessage("accessTokenInValid.code", null, locale));
+            String message = messageSource.getMessage("accessTokenInValid.msg", null, locale);
+            return new ErrorCode(code, message);
+        }
+    }
+
+    @Benchmark
+    public Object precomputed() {
+        try {
+            throwAt(STACK_DEPTH, false);
+            return null;
+        } catch (RuntimeException e) {
+            return errorCodeTable.get("accessTokenInValid", locale);
+        }
+    }
+
+    private static void throwAt(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            throwAt(depth - 1, withStackTrace);
+            return;
+        }
+        if (withStackTrace) {
+            throw new RuntimeException();   // 기존 C*Exception 과 같은 비용
+        }
+        throw new CAccessTokenException();
+    }
+}
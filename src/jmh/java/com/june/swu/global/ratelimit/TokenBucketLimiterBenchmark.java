@@ -0,0 +1,50 @@
+package com.june.swu.global.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한기 자체의 비용
+ *
+ * baseline: 키 선택만 수행 (비교 기준)
+ * hotKey: 모든 스레드가 같은 키로 요청 (CAS 경합이 가장 심한 경우)
+ * spreadKeys: 클라이언트 주소 1만 개에 고르게 분산된 요청
+ * 허용 한도는 측정 중 거절되지 않을 만큼 크게 설정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class TokenBucketLimiterBenchmark {
+    private static final int KEY_COUNT = 10_000;
+
+    private TokenBucketLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketLimiter(Integer.MAX_VALUE, Integer.MAX_VALUE / 2, KEY_COUNT * 2);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+            limiter.tryAcquire(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public String baseline() {
+        return keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire(keys[0]);
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+}
@@ -2,10 +2,16 @@ package com.june.swu;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @SpringBootApplication
 public class SwuApplication {
 
@@ -13,8 +19,17 @@ public class SwuApplication {
 		SpringApplication.run(SwuApplication.class, args);
 	}
 
+	/**
+	 * 기본 위임 인코더와 같은 형식({bcrypt}...)을 사용하되, BCrypt 비용은 설정으로 변경합니다.
+	 * 비용을 올리면 기존 회원의 비밀번호는 다음 로그인 때 새 비용으로 다시 해시됩니다.
+	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${swu.password.bcrypt-strength:10}") int bcryptStrength) {
+		DelegatingPasswordEncoder passwordEncoder = (DelegatingPasswordEncoder) PasswordEncoderFactories.createDelegatingPasswordEncoder();
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
+		DelegatingPasswordEncoder configured = new DelegatingPasswordEncoder("bcrypt", encoders);
+		configured.setDefaultPasswordEncoderForMatches(passwordEncoder);	// bcrypt 이외의 기존 형식은 기본 인코더로 비교
+		return configured;
 	}
 }
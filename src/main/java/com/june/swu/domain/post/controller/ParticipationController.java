@@ -0,0 +1,67 @@
+package com.june.swu.domain.post.controller;
+
+import com.june.swu.domain.post.dto.response.ParticipantResponseDto;
+import com.june.swu.domain.post.dto.response.ParticipationResponseDto;
+import com.june.swu.domain.post.service.ParticipationService;
+import com.june.swu.domain.token.config.JwtPrincipal;
+import com.june.swu.global.common.response.model.ListResult;
+import com.june.swu.global.common.response.model.SingleResult;
+import com.june.swu.global.common.response.service.ResponseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Participation")
+@RequiredArgsConstructor
+@RestController
+public class ParticipationController {
+    private final ParticipationService participationService;
+    private final ResponseService responseService;
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "게시글 참여", description = "모집 중인 게시글에 참여합니다.")
+    @PostMapping("/api/post/participation")
+    public SingleResult<ParticipationResponseDto> join(
+            @RequestParam Long postId,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        ParticipationResponseDto participationResponseDto = participationService.join(postId, principal);
+        return responseService.getSingleResult(participationResponseDto);
+    }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "게시글 참여 취소", description = "참여한 게시글에서 나갑니다.")
+    @DeleteMapping("/api/post/participation")
+    public SingleResult<ParticipationResponseDto> leave(
+            @RequestParam Long postId,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        ParticipationResponseDto participationResponseDto = participationService.leave(postId, principal);
+        return responseService.getSingleResult(participationResponseDto);
+    }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "게시글 참여자 목록", description = "게시글에 참여한 회원 목록을 참여 순서대로 조회합니다.")
+    @GetMapping("/api/post/participants")
+    public ListResult<ParticipantResponseDto> getParticipants(@RequestParam Long postId) {
+        return responseService.getListResult(participationService.getParticipants(postId));
+    }
+}
@@ -1,10 +1,17 @@
 package com.june.swu.domain.post.controller;
 
+import com.june.swu.domain.post.dto.request.NearbySort;
 import com.june.swu.domain.post.dto.request.PointRequestDto;
+import com.june.swu.domain.post.dto.request.PostBulkCreateRequestDto;
 import com.june.swu.domain.post.dto.request.PostCreateRequestDto;
 import com.june.swu.domain.post.dto.request.PostUpdateRequestDto;
+import com.june.swu.domain.post.dto.response.PostBulkCreateResponseDto;
 import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.exception.CBulkSizeExceededException;
 import com.june.swu.domain.post.service.PostService;
+import com.june.swu.domain.token.config.JwtPrincipal;
+import com.june.swu.global.common.export.NdjsonExporter;
+import com.june.swu.global.common.pagination.CursorSlice;
 import com.june.swu.global.common.response.model.CommonResult;
 import com.june.swu.global.common.response.model.ListResult;
 import com.june.swu.global.common.response.model.SingleResult;
@@ -12,10 +19,17 @@ import com.june.swu.global.common.response.service.ResponseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -24,6 +38,8 @@ import java.util.List;
 @RequiredArgsConstructor
 @RestController
 public class PostController {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
     private final ResponseService responseService;
 
@@ -37,11 +53,34 @@ public class PostController {
     @PostMapping(value = "/api/post")
     public SingleResult<PostResponseDto> createPost(
             @Valid @RequestBody PostCreateRequestDto postCreateRequestDto,
-            @RequestHeader("X-AUTH-TOKEN") String accessToken) {
-        PostResponseDto postResponseDto = postService.createPost(postCreateRequestDto, accessToken);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        PostResponseDto postResponseDto = postService.createPost(postCreateRequestDto, principal);
         return responseService.getSingleResult(postResponseDto);
     }
 
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "게시글 일괄 등록",
+            description = "게시글을 한 번에 최대 1000건까지 등록하고, 게시글별 등록 결과를 요청 순서대로 반환합니다.")
+    @PostMapping(value = "/api/posts/bulk")
+    public ListResult<PostBulkCreateResponseDto> createPosts(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(array = @ArraySchema(
+                    schema = @Schema(implementation = PostCreateRequestDto.class),
+                    maxItems = PostBulkCreateRequestDto.MAX_SIZE)))
+            @RequestBody PostBulkCreateRequestDto postBulkCreateRequestDto,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        // 최대 건수를 넘으면 게시글별 결과 없이 요청 전체를 거절
+        if (postBulkCreateRequestDto.isOverflow()) {
+            throw new CBulkSizeExceededException();
+        }
+
+        List<PostBulkCreateResponseDto> results = postService.createPosts(postBulkCreateRequestDto.getPosts(), principal);
+        return responseService.getListResult(results);
+    }
 
     @Parameter(
             name = "X-AUTH-TOKEN",
@@ -53,8 +92,8 @@ public class PostController {
     @PutMapping("/api/post")
     public SingleResult<PostResponseDto> updatePost(
             @Valid @RequestBody PostUpdateRequestDto postUpdateRequestDto,
-            @RequestHeader("X-AUTH-TOKEN") String accessToken) {
-        PostResponseDto postResponseDto = postService.updatePost(postUpdateRequestDto, accessToken);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        PostResponseDto postResponseDto = postService.updatePost(postUpdateRequestDto, principal);
         return responseService.getSingleResult(postResponseDto);
     }
 
@@ -68,11 +107,51 @@ public class PostController {
     @DeleteMapping("/api/post")
     public CommonResult deletePost(
             @RequestParam Long postId,
-            @RequestHeader("X-AUTH-TOKEN") String accessToken) {
-        postService.deletePost(postId, accessToken);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        postService.deletePost(postId, principal);
         return responseService.getSuccessResult();
     }
 
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "게시글 상세", description = "게시글을 조회합니다. 조회수가 1 증가합니다.")
+    @GetMapping("/api/post")
+    public SingleResult<PostResponseDto> getPost(@RequestParam Long postId) {
+        PostResponseDto postResponseDto = postService.getPost(postId);
+        return responseService.getSingleResult(postResponseDto);
+    }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "게시글 관심 표시", description = "게시글의 관심 수를 1 증가시킵니다.")
+    @PostMapping("/api/post/interest")
+    public SingleResult<PostResponseDto> addInterest(@RequestParam Long postId) {
+        PostResponseDto postResponseDto = postService.addInterest(postId);
+        return responseService.getSingleResult(postResponseDto);
+    }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "게시글 전체 내보내기", description = "활성 게시글 전체를 한 줄에 하나씩 NDJSON 으로 내보냅니다. (관리자 전용)")
+    @GetMapping(value = "/api/posts/export", produces = NdjsonExporter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonExporter.MEDIA_TYPE))
+                .body(postService.exportPosts());
+    }
+
     @Parameter(
             name = "X-AUTH-TOKEN",
             description = "로그인 성공 후 AccessToken",
@@ -82,9 +161,10 @@ public class PostController {
     @Operation(summary = "게시글 목록", description = "게시글 목록을 조회합니다.")
     @GetMapping("/api/posts")
     public ListResult<PostResponseDto> getPostListByPagination(
-            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String after,
             @RequestParam(defaultValue = "10") int size) {
-        List<PostResponseDto> postDetailList = postService.getPostListWithPagination(page, size);
+        CursorSlice<PostResponseDto> postDetailList =
+                postService.getPostListWithPagination(after, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
         return responseService.getListResult(postDetailList);
     }
 
@@ -97,11 +177,12 @@ public class PostController {
     @Operation(summary = "게시글 목록(키워드)", description = "검색어 기준으로 게시글 목록을 조회합니다.")
     @GetMapping("/api/posts/search")
     public ListResult<PostResponseDto> getPostListByPagination(
-            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String after,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "") String keyword) {
-        List<PostResponseDto> postDetailList =
-                postService.getPostListByKeywordWithPagination(page, size, keyword);
+        CursorSlice<PostResponseDto> postDetailList =
+                postService.getPostListByKeywordWithPagination(
+                        after, Math.min(Math.max(size, 1), MAX_PAGE_SIZE), keyword);
         return responseService.getListResult(postDetailList);
     }
 
@@ -114,11 +195,30 @@ public class PostController {
     @Operation(summary = "게시글 목록(인근 피드)", description = "사용자의 위치 기준으로 게시글 목록을 조회합니다.")
     @PostMapping("/api/posts/point")
     public ListResult<PostResponseDto> getPostListByPoint(
-            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String after,
             @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "조회 반경(m), 최대 5000") @RequestParam(defaultValue = "1500") double radius,
+            @Parameter(description = "정렬 기준 (LATEST: 최신순, DISTANCE: 가까운순)")
+            @RequestParam(defaultValue = "LATEST") NearbySort sort,
             @Valid @RequestBody PointRequestDto pointRequestDto) {
-        List<PostResponseDto> postDetailList =
-                postService.getPostListByPointWithPagination(page, size, pointRequestDto);
+        CursorSlice<PostResponseDto> postDetailList =
+                postService.getPostListByPointWithPagination(
+                        after, Math.min(Math.max(size, 1), MAX_PAGE_SIZE), radius, sort, pointRequestDto);
         return responseService.getListResult(postDetailList);
     }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "인근 게시글 구독", description = "사용자의 위치 반경 안에서 작성, 수정되는 게시글을 Server-Sent Events 로 받습니다.")
+    @GetMapping(value = "/api/posts/point/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePostsByPoint(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @Parameter(description = "구독 반경(m), 최대 5000") @RequestParam(defaultValue = "1500") double radius) {
+        return postService.subscribePostsByPoint(latitude, longitude, radius);
+    }
 }
@@ -0,0 +1,9 @@
+package com.june.swu.domain.post.dto.request;
+
+/**
+ * 인근 피드 정렬 기준
+ */
+public enum NearbySort {
+    LATEST,     // 최신 게시글 순
+    DISTANCE    // 가까운 식당 순
+}
@@ -0,0 +1,51 @@
+package com.june.swu.domain.post.dto.request;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 일괄 작성 요청
+ *
+ * 요청 본문은 게시글 작성 요청의 JSON 배열 그대로이며, 배열을 한 건씩 읽다가 최대 건수를 넘으면 나머지 본문은 읽지 않습니다.
+ * (본문 전체를 목록으로 만든 뒤 건수를 확인하지 않으므로 요청 크기와 관계없이 최대 MAX_SIZE + 1 건만 메모리에 올라감)
+ */
+@Getter
+@RequiredArgsConstructor
+@JsonDeserialize(using = PostBulkCreateRequestDto.Deserializer.class)
+public class PostBulkCreateRequestDto {
+    public static final int MAX_SIZE = 1000;    // 일괄 작성 최대 건수
+
+    private final List<PostCreateRequestDto> posts;
+    private final boolean overflow; // 최대 건수를 넘는 요청이었는지 여부
+
+    public static class Deserializer extends StdDeserializer<PostBulkCreateRequestDto> {
+        public Deserializer() {
+            super(PostBulkCreateRequestDto.class);
+        }
+
+        @Override
+        public PostBulkCreateRequestDto deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartArrayToken()) {
+                return (PostBulkCreateRequestDto) context.handleUnexpectedToken(PostBulkCreateRequestDto.class, parser);
+            }
+
+            List<PostCreateRequestDto> posts = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (posts.size() == MAX_SIZE) {
+                    return new PostBulkCreateRequestDto(posts, true);
+                }
+                posts.add(context.readValue(parser, PostCreateRequestDto.class));
+            }
+            return new PostBulkCreateRequestDto(posts, false);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.june.swu.domain.post.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class ParticipantResponseDto {
+    private Long userId;
+    private String nickName;
+    private LocalDateTime joinedAt; // 참여 시간
+}
@@ -0,0 +1,12 @@
+package com.june.swu.domain.post.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class ParticipationResponseDto {
+    private Long postId;
+    private Integer recruitment;    // 모집 인원
+    private Integer participantCount;   // 현재 참여 인원
+}
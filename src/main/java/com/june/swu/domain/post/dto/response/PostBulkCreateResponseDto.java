@@ -0,0 +1,13 @@
+package com.june.swu.domain.post.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class PostBulkCreateResponseDto {
+    private int index;  // 요청 목록에서의 순번
+    private boolean success;    // 등록 성공 여부
+    private Long postId;    // 등록된 게시글 번호, 실패 시 null
+    private String message; // 실패 사유, 성공 시 null
+}
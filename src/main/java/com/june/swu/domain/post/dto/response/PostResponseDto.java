@@ -1,13 +1,16 @@
 package com.june.swu.domain.post.dto.response;
 
 import com.june.swu.domain.post.entity.FoodCategory;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import org.locationtech.jts.geom.Geometry;
 
 import java.time.LocalDateTime;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
+@AllArgsConstructor
 public class PostResponseDto {
     private Long postId;    // 게시글 번호(인덱스)
     private String creatorName; // 게시자 이름
@@ -16,4 +19,25 @@ public class PostResponseDto {
     private Integer recruitment;    // 모집 인원
     private PointResponseDto location;   // 식당 좌표
     private FoodCategory foodCategory;  // 음식 종류
+    private Double distance;    // 요청 좌표와 식당 사이의 거리(m), 위치 기반 조회에서만 채워짐
+    private Long viewCount;     // 조회수
+    private Long interestCount; // 관심 수
+
+    /**
+     * JPQL 생성자 표현식(select new ...)으로 게시글과 작성자 이름을 한 번에 조회할 때 사용합니다.
+     * hibernate-spatial 은 좌표 컬럼을 Geometry 타입으로 넘겨주므로 Geometry로 받습니다.
+     */
+    public PostResponseDto(Long postId, String creatorName, String title, LocalDateTime orderAt,
+                           Integer recruitment, Geometry restaurantPoint, FoodCategory foodCategory) {
+        this.postId = postId;
+        this.creatorName = creatorName;
+        this.title = title;
+        this.orderAt = orderAt;
+        this.recruitment = recruitment;
+        this.location = PointResponseDto.builder()
+                .latitude(restaurantPoint.getCoordinate().getX())
+                .longitude(restaurantPoint.getCoordinate().getY())
+                .build();
+        this.foodCategory = foodCategory;
+    }
 }
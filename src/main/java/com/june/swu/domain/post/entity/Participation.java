@@ -0,0 +1,30 @@
+package com.june.swu.domain.post.entity;
+
+import com.june.swu.domain.user.entity.User;
+import com.june.swu.global.common.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Table(name = "participation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_participation_post_user", columnNames = {"post_id", "user_id"}))  // 같은 게시글에 중복 참여 방지
+@Builder
+@NoArgsConstructor @AllArgsConstructor
+@Getter
+@Entity
+public class Participation extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;  // 참여한 게시글
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;  // 참여자
+}
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Entity
 public class Post extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)   // pooled 시퀀스로 insert 를 배치로 묶을 수 있도록 함
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +36,11 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private Integer recruitment;    // 모집 인원
 
+    // 참여 인원은 조건부 update 쿼리로만 변경 (게시글 수정 시 dirty checking 으로 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer participantCount = 0;   // 참여 인원
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private FoodCategory foodCategory;  // 음식 종류
@@ -0,0 +1,28 @@
+package com.june.swu.domain.post.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 게시글별 누적 조회수, 관심 수
+ *
+ * 조회마다 post 테이블을 update 하지 않도록 별도 테이블에 두고, 메모리에 모은 증가분을 주기적으로 upsert 합니다.
+ */
+@Table(name = "post_stat")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class PostStat {
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long viewCount;     // 조회수
+
+    @Column(nullable = false)
+    private Long interestCount; // 관심 수
+}
@@ -0,0 +1,44 @@
+package com.june.swu.domain.post.event;
+
+import com.june.swu.domain.post.dto.response.PointResponseDto;
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 생성, 수정, 삭제되었을 때 발행되는 이벤트
+ *
+ * 트랜잭션 커밋 이후 메모리에 올라가 있는 게시글 구조(위치 인덱스, 캐시 등)를 동기화하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+    private final PostResponseDto post;   // 변경 후 게시글, 삭제된 경우 null
+    private final PointResponseDto previousLocation;  // 변경 전 식당 좌표, 새로 작성된 경우 null
+
+    public static PostChangedEvent created(PostResponseDto post) {
+        return new PostChangedEvent(post.getPostId(), post, null);
+    }
+
+    public static PostChangedEvent updated(PostResponseDto post, PointResponseDto previousLocation) {
+        return new PostChangedEvent(post.getPostId(), post, previousLocation);
+    }
+
+    public static PostChangedEvent deleted(Long postId, PointResponseDto previousLocation) {
+        return new PostChangedEvent(postId, null, previousLocation);
+    }
+
+    /**
+     * 주문 예정 시간이 지나 만료된 게시글
+     *
+     * 조회 시점에 orderAt 으로 한 번 더 걸러내므로 캐시 무효화가 필요 없어 변경 전 좌표를 담지 않습니다.
+     */
+    public static PostChangedEvent expired(Long postId) {
+        return new PostChangedEvent(postId, null, null);
+    }
+
+    public boolean isDeleted() {
+        return post == null;
+    }
+}
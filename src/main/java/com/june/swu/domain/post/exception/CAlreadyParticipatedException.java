@@ -0,0 +1,18 @@
+package com.june.swu.domain.post.exception;
+
+import com.june.swu.global.exception.CStacklessException;
+
+public class CAlreadyParticipatedException extends CStacklessException {
+
+    public CAlreadyParticipatedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CAlreadyParticipatedException(String message) {
+        super(message);
+    }
+
+    public CAlreadyParticipatedException() {
+        super();
+    }
+}
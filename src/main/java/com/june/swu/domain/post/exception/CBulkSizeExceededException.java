@@ -0,0 +1,18 @@
+package com.june.swu.domain.post.exception;
+
+import com.june.swu.global.exception.CStacklessException;
+
+public class CBulkSizeExceededException extends CStacklessException {
+
+    public CBulkSizeExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CBulkSizeExceededException(String message) {
+        super(message);
+    }
+
+    public CBulkSizeExceededException() {
+        super();
+    }
+}
@@ -0,0 +1,18 @@
+package com.june.swu.domain.post.exception;
+
+import com.june.swu.global.exception.CStacklessException;
+
+public class CParticipationNotFoundException extends CStacklessException {
+
+    public CParticipationNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CParticipationNotFoundException(String message) {
+        super(message);
+    }
+
+    public CParticipationNotFoundException() {
+        super();
+    }
+}
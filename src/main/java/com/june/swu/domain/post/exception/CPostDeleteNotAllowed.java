@@ -1,6 +1,8 @@
 package com.june.swu.domain.post.exception;
 
-public class CPostDeleteNotAllowed extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CPostDeleteNotAllowed extends CStacklessException {
 
     public CPostDeleteNotAllowed(String message, Throwable cause) {
         super(message, cause);
@@ -0,0 +1,18 @@
+package com.june.swu.domain.post.exception;
+
+import com.june.swu.global.exception.CStacklessException;
+
+public class CPostFullException extends CStacklessException {
+
+    public CPostFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CPostFullException(String message) {
+        super(message);
+    }
+
+    public CPostFullException() {
+        super();
+    }
+}
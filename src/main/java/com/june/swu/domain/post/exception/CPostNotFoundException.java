@@ -1,6 +1,8 @@
 package com.june.swu.domain.post.exception;
 
-public class CPostNotFoundException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CPostNotFoundException extends CStacklessException {
 
     public CPostNotFoundException(String message, Throwable cause) {
         super(message, cause);
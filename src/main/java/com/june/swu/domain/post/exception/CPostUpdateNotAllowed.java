@@ -1,6 +1,8 @@
 package com.june.swu.domain.post.exception;
 
-public class CPostUpdateNotAllowed extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CPostUpdateNotAllowed extends CStacklessException {
 
     public CPostUpdateNotAllowed(String message, Throwable cause) {
         super(message, cause);
@@ -0,0 +1,18 @@
+package com.june.swu.domain.post.exception;
+
+import com.june.swu.global.exception.CStacklessException;
+
+public class CRecruitmentBelowParticipantsException extends CStacklessException {
+
+    public CRecruitmentBelowParticipantsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CRecruitmentBelowParticipantsException(String message) {
+        super(message);
+    }
+
+    public CRecruitmentBelowParticipantsException() {
+        super();
+    }
+}
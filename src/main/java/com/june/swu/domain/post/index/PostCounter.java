@@ -0,0 +1,181 @@
+package com.june.swu.domain.post.index;
+
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.entity.PostStat;
+import com.june.swu.domain.post.event.PostChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수, 관심 수 카운터
+ *
+ * 증가분은 스레드 간 경합이 적은 LongAdder 에 모아 두고, PostStatService 가 주기적으로 꺼내(drain) DB에 한 번에 반영합니다.
+ * 응답에 내려가는 값은 DB에 반영된 값 + 반영 중인 값 + 아직 모으고 있는 값의 합입니다.
+ */
+@Slf4j
+@Component
+public class PostCounter {
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();   // 게시글 번호 -> 카운터
+
+    /**
+     * DB에 저장된 누적 값을 적재합니다.
+     *
+     * @param postStats
+     */
+    public void load(Collection<PostStat> postStats) {
+        postStats.forEach(stat -> {
+            Counter counter = counterOf(stat.getPostId());
+            counter.persistedViews.set(stat.getViewCount());
+            counter.persistedInterests.set(stat.getInterestCount());
+        });
+        log.info("[PostCounter] {} post stats loaded", postStats.size());
+    }
+
+    public void increaseView(Long postId) {
+        counterOf(postId).pendingViews.increment();
+    }
+
+    public void increaseInterest(Long postId) {
+        counterOf(postId).pendingInterests.increment();
+    }
+
+    /**
+     * 응답 모델에 조회수, 관심 수를 채워 반환합니다.
+     */
+    public PostResponseDto withCounts(PostResponseDto post) {
+        Counter counter = counters.get(post.getPostId());
+        return post.toBuilder()
+                .viewCount(counter == null ? 0L : counter.views())
+                .interestCount(counter == null ? 0L : counter.interests())
+                .build();
+    }
+
+    public long viewCount(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter == null ? 0L : counter.views();
+    }
+
+    public long interestCount(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter == null ? 0L : counter.interests();
+    }
+
+    /**
+     * 삭제, 만료된 게시글은 남은 증가분을 반영한 뒤 카운터를 정리합니다.
+     *
+     * @param event
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            Counter counter = counters.get(event.getPostId());
+            if (counter != null) {
+                counter.retired = true;
+            }
+        }
+    }
+
+    /**
+     * 모인 증가분을 꺼냅니다.
+     *
+     * 꺼낸 값은 반영 중(in-flight)으로 옮겨 두므로 DB에 쓰는 동안에도 응답 값이 줄어들지 않습니다.
+     * 반영이 끝나면 반드시 commit 또는 restore 를 호출해야 합니다.
+     *
+     * @return
+     */
+    public List<Delta> drain() {
+        List<Delta> deltas = new ArrayList<>();
+        counters.forEach((postId, counter) -> {
+            // LongAdder.sumThenReset 은 셀마다 getAndSet 으로 비우므로 동시에 들어온 증가분을 잃지 않음
+            long views = counter.pendingViews.sumThenReset();
+            long interests = counter.pendingInterests.sumThenReset();
+            if (views != 0 || interests != 0) {
+                counter.inFlightViews.addAndGet(views);
+                counter.inFlightInterests.addAndGet(interests);
+                deltas.add(new Delta(postId, views, interests));
+            } else if (counter.retired) {
+                counters.remove(postId, counter);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * DB 반영에 성공한 증가분을 누적 값으로 옮깁니다.
+     */
+    public void commit(List<Delta> deltas) {
+        deltas.forEach(delta -> {
+            Counter counter = counterOf(delta.getPostId());
+            counter.persistedViews.addAndGet(delta.getViews());
+            counter.persistedInterests.addAndGet(delta.getInterests());
+            counter.inFlightViews.addAndGet(-delta.getViews());
+            counter.inFlightInterests.addAndGet(-delta.getInterests());
+        });
+    }
+
+    /**
+     * DB 반영에 실패한 증가분을 다음 반영 때 다시 쓰도록 되돌립니다.
+     */
+    public void restore(List<Delta> deltas) {
+        deltas.forEach(delta -> {
+            Counter counter = counterOf(delta.getPostId());
+            counter.pendingViews.add(delta.getViews());
+            counter.pendingInterests.add(delta.getInterests());
+            counter.inFlightViews.addAndGet(-delta.getViews());
+            counter.inFlightInterests.addAndGet(-delta.getInterests());
+        });
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분의 합 (서버가 비정상 종료될 때 잃을 수 있는 최대치)
+     */
+    public long pendingCount() {
+        return counters.values().stream()
+                .mapToLong(counter -> counter.pendingViews.sum() + counter.pendingInterests.sum())
+                .sum();
+    }
+
+    private Counter counterOf(Long postId) {
+        return counters.computeIfAbsent(postId, key -> new Counter());
+    }
+
+    private static class Counter {
+        private final LongAdder pendingViews = new LongAdder();
+        private final LongAdder pendingInterests = new LongAdder();
+        private final AtomicLong inFlightViews = new AtomicLong();
+        private final AtomicLong inFlightInterests = new AtomicLong();
+        private final AtomicLong persistedViews = new AtomicLong();
+        private final AtomicLong persistedInterests = new AtomicLong();
+        private volatile boolean retired = false;
+
+        private long views() {
+            return persistedViews.get() + inFlightViews.get() + pendingViews.sum();
+        }
+
+        private long interests() {
+            return persistedInterests.get() + inFlightInterests.get() + pendingInterests.sum();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Delta {
+        private final Long postId;
+        private final long views;
+        private final long interests;
+    }
+}
@@ -0,0 +1,101 @@
+package com.june.swu.domain.post.index;
+
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.event.PostChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 주문 예정 시간(orderAt)이 지난 게시글을 찾기 위한 타이밍 휠
+ *
+ * 게시글을 orderAt 이 속한 tick(10초) 구간의 버킷에 넣어두고, 구간이 모두 지난 버킷을 통째로 꺼내 만료 대상으로 돌려줍니다.
+ * 게시글마다 타이머를 두지 않으므로 등록, 취소, 만료 처리 비용이 게시글 수와 무관하게 일정합니다.
+ */
+@Component
+public class PostExpiryWheel {
+    public static final long TICK_MILLIS = 10_000;
+
+    private final NavigableMap<Long, Set<Long>> buckets = new TreeMap<>();  // tick -> 게시글 번호 목록
+    private final Map<Long, Long> ticks = new HashMap<>();   // 게시글 번호 -> tick
+
+    /**
+     * 휠 적재
+     *
+     * 기존 내용을 비우고 전달받은 게시글들을 다시 등록합니다. 이미 orderAt 이 지난 게시글은 다음 tick 에 만료됩니다.
+     *
+     * @param activePosts
+     */
+    public synchronized void load(Collection<PostResponseDto> activePosts) {
+        buckets.clear();
+        ticks.clear();
+        activePosts.forEach(post -> schedule(post.getPostId(), post.getOrderAt()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            cancel(event.getPostId());
+        } else {
+            schedule(event.getPostId(), event.getPost().getOrderAt());
+        }
+    }
+
+    public synchronized void schedule(Long postId, LocalDateTime orderAt) {
+        cancel(postId);
+        long tick = toTick(orderAt);
+        buckets.computeIfAbsent(tick, key -> new HashSet<>()).add(postId);
+        ticks.put(postId, tick);
+    }
+
+    public synchronized void cancel(Long postId) {
+        Long tick = ticks.remove(postId);
+        if (tick == null) {
+            return;
+        }
+
+        Set<Long> ids = buckets.get(tick);
+        if (ids != null) {
+            ids.remove(postId);
+            if (ids.isEmpty()) {
+                buckets.remove(tick);
+            }
+        }
+    }
+
+    /**
+     * 만료 대상 꺼내기
+     *
+     * 현재 시각 이전에 구간이 끝난 버킷들의 게시글을 모두 꺼내 휠에서 제거합니다.
+     *
+     * @param now
+     * @return
+     */
+    public synchronized List<Long> pollExpired(LocalDateTime now) {
+        NavigableMap<Long, Set<Long>> due = buckets.headMap(toTick(now), false);
+
+        List<Long> expired = new ArrayList<>();
+        due.values().forEach(expired::addAll);
+        expired.forEach(ticks::remove);
+        due.clear();
+        return expired;
+    }
+
+    private static long toTick(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / TICK_MILLIS;
+    }
+}
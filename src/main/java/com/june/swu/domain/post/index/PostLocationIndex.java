@@ -0,0 +1,178 @@
+package com.june.swu.domain.post.index;
+
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.event.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성화된 게시글의 식당 좌표를 격자(grid) 단위로 나누어 메모리에 보관하는 위치 인덱스
+ *
+ * 서버 시작 시 전체 활성 게시글을 적재하고, 이후에는 게시글 변경 이벤트로 동기화합니다.
+ * 인근 피드 조회는 반경에 걸치는 격자만 살펴본 뒤 실제 거리로 한 번 더 걸러냅니다.
+ */
+@Slf4j
+@Component
+public class PostLocationIndex {
+    private static final double CELL_SIZE_DEGREE = 0.01;   // 격자 한 칸의 크기(위도 기준 약 1.1km)
+    private static final double EARTH_RADIUS_METER = 6_371_000;
+    private static final double METER_PER_DEGREE = 111_320;
+
+    private final Map<Long, PostResponseDto> posts = new ConcurrentHashMap<>();   // 게시글 번호 -> 게시글
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();   // 격자 번호 -> 게시글 번호 목록
+    private volatile boolean ready = false;
+
+    /**
+     * 인덱스 적재
+     *
+     * 기존 내용을 비우고 전달받은 게시글들로 인덱스를 다시 채웁니다.
+     *
+     * @param activePosts
+     */
+    public synchronized void load(Collection<PostResponseDto> activePosts) {
+        posts.clear();
+        cells.clear();
+        activePosts.forEach(this::put);
+        ready = true;
+        log.info("[PostLocationIndex] {} posts loaded", posts.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리
+     *
+     * 트랜잭션이 커밋된 이후에만 인덱스에 반영합니다.
+     *
+     * @param event
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getPostId());
+        } else {
+            put(event.getPost());
+        }
+    }
+
+    /**
+     * 게시글 번호로 조회합니다. 인덱스에 없다면 null 을 반환합니다.
+     */
+    public PostResponseDto get(Long postId) {
+        return posts.get(postId);
+    }
+
+    public synchronized void put(PostResponseDto post) {
+        remove(post.getPostId());
+        posts.put(post.getPostId(), post);
+        cells.computeIfAbsent(cellOf(post.getLocation().getLatitude(), post.getLocation().getLongitude()),
+                key -> ConcurrentHashMap.newKeySet()).add(post.getPostId());
+    }
+
+    public synchronized void remove(Long postId) {
+        PostResponseDto removed = posts.remove(postId);
+        if (removed == null) {
+            return;
+        }
+
+        long cell = cellOf(removed.getLocation().getLatitude(), removed.getLocation().getLongitude());
+        Set<Long> ids = cells.get(cell);
+        if (ids != null) {
+            ids.remove(postId);
+            if (ids.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * 반경 내 게시글 조회
+     *
+     * 반경을 덮는 격자들의 게시글 중 실제 거리가 반경 이내인 게시글만 거리 정보를 채워 반환합니다.
+     * 정렬은 호출하는 쪽에서 정렬 기준에 맞게 수행합니다.
+     *
+     * @param latitude
+     * @param longitude
+     * @param radiusMeter
+     * @return
+     */
+    public List<PostResponseDto> findWithin(double latitude, double longitude, double radiusMeter) {
+        double latDelta = radiusMeter / METER_PER_DEGREE;
+        double lonDelta = radiusMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        int minLatCell = cellIndex(latitude - latDelta);
+        int maxLatCell = cellIndex(latitude + latDelta);
+        int minLonCell = cellIndex(longitude - lonDelta);
+        int maxLonCell = cellIndex(longitude + lonDelta);
+
+        List<PostResponseDto> result = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                Set<Long> ids = cells.get(cellKey(latCell, lonCell));
+                if (ids == null) {
+                    continue;
+                }
+
+                for (Long id : ids) {
+                    PostResponseDto post = posts.get(id);
+                    if (post == null) {
+                        continue;
+                    }
+
+                    double distance = distanceMeter(latitude, longitude,
+                            post.getLocation().getLatitude(), post.getLocation().getLongitude());
+                    if (distance <= radiusMeter) {
+                        result.add(withDistance(post, distance));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 응답 모델에 요청 좌표와의 거리(m, 소수점 첫째 자리까지)를 채워 반환합니다.
+     */
+    public static PostResponseDto withDistance(PostResponseDto post, double distanceMeter) {
+        return post.toBuilder()
+                .distance(Math.round(distanceMeter * 10) / 10.0)
+                .build();
+    }
+
+    /**
+     * 두 좌표 사이의 거리(m)를 하버사인 공식으로 계산합니다.
+     */
+    public static double distanceMeter(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static long cellOf(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static int cellIndex(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE_DEGREE);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,193 @@
+package com.june.swu.domain.post.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.june.swu.domain.post.dto.response.PointResponseDto;
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.event.PostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인근 피드 타일 캐시
+ *
+ * 요청 좌표를 일정 크기의 타일로 양자화하고, (타일, 반경) 별로 타일 중심에서 "반경 + 타일 반대각선" 이내의 게시글 후보를 캐싱합니다.
+ * 같은 타일 안의 어느 좌표에서 요청하더라도 반경 이내의 게시글은 모두 후보에 포함되므로,
+ * 정확한 거리 계산과 정렬, 커서 처리는 요청마다 후보 목록 위에서 수행합니다. (페이지 파라미터와 무관하게 하나의 항목을 공유)
+ * 크기 제한과 TTL이 있으며 eviction 은 Caffeine 의 W-TinyLFU 정책을 따릅니다.
+ * 게시글 변경 시 전체 키를 훑지 않도록 타일 -> 캐시 키 보조 인덱스를 두고, 변경 좌표 주변 타일의 키만 확인합니다.
+ */
+@Component
+public class PostTileCache {
+    private static final double TILE_SIZE_DEGREE = 0.002;   // 타일 한 칸의 크기(위도 기준 약 220m)
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final double METER_PER_DEGREE = 111_320;
+
+    private final Cache<TileKey, List<PostResponseDto>> cache;
+    private final Map<Long, Set<TileKey>> keysByTile = new ConcurrentHashMap<>();   // 타일 번호 -> 캐시 키 (반경별)
+    private final AtomicInteger maxRadius = new AtomicInteger();    // 캐싱된 적 있는 가장 큰 반경, 무효화할 타일 범위 계산용
+
+    public PostTileCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TTL)
+                .evictionListener((TileKey key, List<PostResponseDto> value, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.tile");    // cache.gets(hit/miss), cache.evictions 등 노출
+    }
+
+    /**
+     * 요청 좌표가 속한 타일의 게시글 후보 조회
+     *
+     * 캐시에 없다면 loader 로 타일 중심 기준 "반경 + 타일 반대각선" 이내의 게시글을 조회해 저장합니다.
+     *
+     * @param latitude
+     * @param longitude
+     * @param radiusMeter
+     * @param loader
+     * @return
+     */
+    public List<PostResponseDto> getCandidates(double latitude, double longitude, double radiusMeter,
+                                               CandidateLoader loader) {
+        TileKey key = new TileKey(tileIndex(latitude), tileIndex(longitude), (int) Math.ceil(radiusMeter));
+        return cache.get(key, tile -> {
+            index(tile);
+            return loader.load(
+                    tile.centerLatitude(), tile.centerLongitude(), tile.getRadius() + tile.halfDiagonalMeter());
+        });
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리
+     *
+     * 변경 전, 변경 후 식당 좌표가 후보 영역에 포함되는 타일만 무효화합니다.
+     * 위치 인덱스가 먼저 갱신된 뒤에 무효화해야 하므로 인덱스보다 늦게 실행되도록 순서를 지정합니다.
+     *
+     * @param event
+     */
+    @Order(1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        PointResponseDto previous = event.getPreviousLocation();
+        PointResponseDto current = event.isDeleted() ? null : event.getPost().getLocation();
+
+        invalidateAround(previous);
+        invalidateAround(current);
+    }
+
+    /**
+     * 좌표를 후보 영역에 포함하는 캐시 키 무효화
+     *
+     * 가장 큰 반경 기준으로 좌표 주변 타일만 확인하고, 그 타일들의 키 중 실제로 좌표를 포함하는 키만 제거합니다.
+     *
+     * @param location
+     */
+    private void invalidateAround(PointResponseDto location) {
+        if (location == null || keysByTile.isEmpty()) {
+            return;
+        }
+
+        double latitude = location.getLatitude();
+        double longitude = location.getLongitude();
+        double reachMeter = maxRadius.get() + TILE_SIZE_DEGREE * METER_PER_DEGREE;     // 반경 + 타일 반대각선 이상
+        double latDelta = reachMeter / METER_PER_DEGREE;
+        double lonDelta = reachMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        // 위도에 따른 경도 간격 차이를 감안해 양쪽으로 한 칸씩 더 확인
+        int minLatTile = tileIndex(latitude - latDelta) - 1;
+        int maxLatTile = tileIndex(latitude + latDelta) + 1;
+        int minLonTile = tileIndex(longitude - lonDelta) - 1;
+        int maxLonTile = tileIndex(longitude + lonDelta) + 1;
+
+        for (int latTile = minLatTile; latTile <= maxLatTile; latTile++) {
+            for (int lonTile = minLonTile; lonTile <= maxLonTile; lonTile++) {
+                Set<TileKey> keys = keysByTile.get(tileKey(latTile, lonTile));
+                if (keys == null) {
+                    continue;
+                }
+
+                for (TileKey key : keys) {
+                    if (key.covers(location)) {
+                        // 인덱스에서 먼저 빼야 그 사이 다시 적재된 키가 인덱스에서 누락되지 않음
+                        unindex(key);
+                        cache.invalidate(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private void index(TileKey key) {
+        maxRadius.accumulateAndGet(key.getRadius(), Math::max);
+        keysByTile.compute(tileKey(key.getLatTile(), key.getLonTile()), (tile, keys) -> {
+            Set<TileKey> target = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            target.add(key);
+            return target;
+        });
+    }
+
+    private void unindex(TileKey key) {
+        // 같은 타일의 등록과 해제가 겹치더라도 새 키를 잃어버리지 않도록 compute 안에서 빈 목록 제거
+        keysByTile.computeIfPresent(tileKey(key.getLatTile(), key.getLonTile()), (tile, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static int tileIndex(double degree) {
+        return (int) Math.floor(degree / TILE_SIZE_DEGREE);
+    }
+
+    private static long tileKey(int latTile, int lonTile) {
+        return ((long) latTile << 32) | (lonTile & 0xffffffffL);
+    }
+
+    @FunctionalInterface
+    public interface CandidateLoader {
+        List<PostResponseDto> load(double latitude, double longitude, double radiusMeter);
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class TileKey {
+        private final int latTile;
+        private final int lonTile;
+        private final int radius;
+
+        double centerLatitude() {
+            return (latTile + 0.5) * TILE_SIZE_DEGREE;
+        }
+
+        double centerLongitude() {
+            return (lonTile + 0.5) * TILE_SIZE_DEGREE;
+        }
+
+        double halfDiagonalMeter() {
+            return PostLocationIndex.distanceMeter(
+                    centerLatitude(), centerLongitude(), latTile * TILE_SIZE_DEGREE, lonTile * TILE_SIZE_DEGREE);
+        }
+
+        boolean covers(PointResponseDto location) {
+            return location != null && PostLocationIndex.distanceMeter(centerLatitude(), centerLongitude(),
+                    location.getLatitude(), location.getLongitude()) <= radius + halfDiagonalMeter();
+        }
+    }
+}
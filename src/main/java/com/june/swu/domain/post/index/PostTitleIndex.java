@@ -0,0 +1,204 @@
+package com.june.swu.domain.post.index;
+
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.event.PostChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 제목 검색용 역색인(inverted index)
+ *
+ * 한글 제목은 띄어쓰기만으로 단어를 나누기 어려우므로 공백을 제거한 제목을 글자 단위 2-gram(bigram)으로 쪼개 색인합니다.
+ * 한 글자 검색어를 위해 1-gram 도 함께 색인합니다.
+ * 검색어의 n-gram 중 절반 이상이 일치하는 게시글을 일치율이 높은 순서로 반환합니다.
+ */
+@Slf4j
+@Component
+public class PostTitleIndex {
+    private static final int SCORE_SCALE = 1000;    // 점수를 정수로 다루기 위한 배율 (커서 비교 시 부동소수 오차 방지)
+    private static final Comparator<Hit> BEST_FIRST = Comparator.comparingInt(Hit::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::getPostId).reversed());
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();   // n-gram -> 게시글 번호 목록
+    private final Map<Long, Indexed> titles = new ConcurrentHashMap<>();     // 게시글 번호 -> 색인된 제목
+    private volatile boolean ready = false;
+
+    /**
+     * 인덱스 적재
+     *
+     * 기존 내용을 비우고 전달받은 게시글들의 제목으로 인덱스를 다시 채웁니다.
+     *
+     * @param activePosts
+     */
+    public synchronized void load(Collection<PostResponseDto> activePosts) {
+        postings.clear();
+        titles.clear();
+        activePosts.forEach(post -> put(post.getPostId(), post.getTitle()));
+        ready = true;
+        log.info("[PostTitleIndex] {} posts, {} grams loaded", titles.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getPostId());
+        } else {
+            put(event.getPostId(), event.getPost().getTitle());
+        }
+    }
+
+    public synchronized void put(Long postId, String title) {
+        Indexed previous = titles.get(postId);
+        if (previous != null && previous.getTitle().equals(normalize(title))) {
+            return;
+        }
+
+        remove(postId);
+        Set<String> grams = grams(title);
+        titles.put(postId, new Indexed(normalize(title), grams));
+        grams.forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(postId));
+    }
+
+    public synchronized void remove(Long postId) {
+        Indexed removed = titles.remove(postId);
+        if (removed == null) {
+            return;
+        }
+
+        for (String gram : removed.getGrams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(postId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 제목 검색
+     *
+     * 검색어와 일치하는 게시글 중 커서(after) 이후의 게시글을 점수 내림차순, 게시글 번호 내림차순으로 limit 개까지 반환합니다.
+     * 전체 일치 목록을 정렬하지 않고 크기가 limit 인 힙으로 상위 limit 개만 유지하므로, 뒤쪽 페이지도 첫 페이지와 같은 비용으로 고릅니다.
+     *
+     * @param keyword
+     * @param after 이전 페이지의 마지막 결과 (첫 페이지라면 null)
+     * @param limit
+     * @return
+     */
+    public List<Hit> search(String keyword, Hit after, int limit) {
+        String normalizedKeyword = normalize(keyword);
+        Set<String> queryGrams = queryGrams(normalizedKeyword);
+        if (queryGrams.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Integer> matchCounts = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.forEach(id -> matchCounts.merge(id, 1, Integer::sum));
+            }
+        }
+
+        // 가장 뒤에 오는 결과가 꼭대기에 오는 힙
+        PriorityQueue<Hit> heap = new PriorityQueue<>(BEST_FIRST.reversed());
+        matchCounts.forEach((id, matched) -> {
+            if (matched * 2 < queryGrams.size()) {
+                return;
+            }
+
+            Indexed indexed = titles.get(id);
+            if (indexed == null) {
+                return;
+            }
+
+            // 일치한 n-gram 비율에 검색어가 제목에 그대로 포함된 경우의 가산점을 더함
+            int score = matched * SCORE_SCALE / queryGrams.size();
+            if (indexed.getTitle().contains(normalizedKeyword)) {
+                score += SCORE_SCALE;
+            }
+            Hit hit = new Hit(id, score);
+            if (after != null && BEST_FIRST.compare(hit, after) <= 0) {
+                return;
+            }
+
+            heap.offer(hit);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(BEST_FIRST);
+        return hits;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", "").toLowerCase();
+    }
+
+    private static Set<String> grams(String text) {
+        String normalized = normalize(text);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+            if (i + 2 <= normalized.length()) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 두 글자 이상의 검색어는 bigram 만으로 찾고, 한 글자 검색어만 1-gram 으로 찾습니다.
+     */
+    private static Set<String> queryGrams(String normalizedKeyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalizedKeyword.length() == 1) {
+            grams.add(normalizedKeyword);
+            return grams;
+        }
+
+        for (int i = 0; i + 2 <= normalizedKeyword.length(); i++) {
+            grams.add(normalizedKeyword.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Indexed {
+        private final String title;
+        private final Set<String> grams;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+        private final Long postId;
+        private final int score;
+    }
+}
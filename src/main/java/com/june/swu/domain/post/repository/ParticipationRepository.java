@@ -0,0 +1,28 @@
+package com.june.swu.domain.post.repository;
+
+import com.june.swu.domain.post.dto.response.ParticipantResponseDto;
+import com.june.swu.domain.post.entity.Participation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ParticipationRepository extends JpaRepository<Participation, Long> {
+    @Query("select count(pa) > 0 from Participation pa where pa.post.id = :postId and pa.user.userId = :userId")
+    boolean existsParticipation(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from Participation pa where pa.post.id = :postId and pa.user.userId = :userId")
+    int deleteParticipation(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from Participation pa where pa.post.id = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 참여자와 조인하여 응답 모델로 바로 프로젝션 (참여자마다 회원을 조회하는 N+1 방지)
+    @Query("select new com.june.swu.domain.post.dto.response.ParticipantResponseDto(u.userId, u.nickName, pa.createdDate) " +
+            "from Participation pa join pa.user u where pa.post.id = :postId order by pa.id")
+    List<ParticipantResponseDto> findParticipants(@Param("postId") Long postId);
+}
@@ -1,25 +1,74 @@
 package com.june.swu.domain.post.repository;
 
+import com.june.swu.domain.post.dto.response.PostResponseDto;
 import com.june.swu.domain.post.entity.Post;
 import org.locationtech.jts.geom.Point;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+    // 목록 조회는 작성자와 조인하여 응답 모델로 바로 프로젝션 (게시글마다 작성자를 조회하는 N+1 방지)
+    String SELECT_POST_RESPONSE = "select new com.june.swu.domain.post.dto.response.PostResponseDto(" +
+            "p.id, c.name, p.title, p.orderAt, p.recruitment, p.restaurantPoint, p.foodCategory) " +
+            "from Post p join p.creator c ";
+
     @Query("select p from Post p where p.id = :id and p.isActive = true")
     Optional<Post> findPostById(@Param("id") Long id);
-    @Query("select p from Post p where p.isActive is true")
-    Page<Post> findPostsWithPagination(Pageable pageable);
 
-    @Query("select p from Post p where p.isActive is true and p.title like %:keyword%")
-    Page<Post> findPostsByKeywordWithPagination(Pageable pageable, @Param("keyword") String keyword);
+    @Query(SELECT_POST_RESPONSE + "where p.isActive is true and p.orderAt > :now and p.id < :after order by p.id desc")
+    Slice<PostResponseDto> findPostsWithPagination(
+            @Param("after") Long after, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(SELECT_POST_RESPONSE + "where p.isActive is true and p.orderAt > :now and p.title like %:keyword% " +
+            "and p.id < :after order by p.id desc")
+    Slice<PostResponseDto> findPostsByKeywordWithPagination(
+            @Param("after") Long after, @Param("now") LocalDateTime now, Pageable pageable, @Param("keyword") String keyword);
+
+    // restaurantPoint 는 geometry(4326) 이므로 반경은 미터가 아닌 도(degree) 단위
+    @Query(SELECT_POST_RESPONSE + "where dwithin(p.restaurantPoint, :point, :radiusDegree) is true and p.isActive is true " +
+            "and p.orderAt > :now")
+    List<PostResponseDto> findPostsWithinRadius(
+            @Param("point") Point point, @Param("radiusDegree") double radiusDegree, @Param("now") LocalDateTime now);
+
+    @Query(SELECT_POST_RESPONSE + "where p.isActive is true")
+    List<PostResponseDto> findAllActivePosts();
+
+    @Query(SELECT_POST_RESPONSE + "where p.isActive is true and p.orderAt > :now and p.id in :ids")
+    List<PostResponseDto> findPostsByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 주문 예정 시간이 지난 게시글을 한 번의 update 로 비활성화 (벌크 연산이므로 영속성 컨텍스트를 비움)
+    @Modifying(clearAutomatically = true)
+    @Query("update Post p set p.isActive = false, p.modifiedDate = :now " +
+            "where p.id in :ids and p.isActive = true and p.orderAt <= :now")
+    int expirePosts(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("select p.id from Post p where p.id in :ids and p.isActive = false")
+    List<Long> findInactivePostIds(@Param("ids") Collection<Long> ids);
+
+    // 빈 자리가 있을 때만 참여 인원을 늘림 (잠금 없이 한 번의 조건부 update 로 초과 모집 방지)
+    @Modifying
+    @Query("update Post p set p.participantCount = p.participantCount + 1 " +
+            "where p.id = :id and p.isActive = true and p.orderAt > :now and p.participantCount < p.recruitment")
+    int increaseParticipantCount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 현재 참여 인원 이상일 때만 모집 인원을 바꿈 (참여와 같은 행을 조건부 update 하므로 동시에 참여해도 초과 모집되지 않음)
+    @Modifying
+    @Query("update Post p set p.recruitment = :recruitment where p.id = :id and p.participantCount <= :recruitment")
+    int updateRecruitment(@Param("id") Long id, @Param("recruitment") Integer recruitment);
+
+    @Modifying
+    @Query("update Post p set p.participantCount = p.participantCount - 1 where p.id = :id and p.participantCount > 0")
+    int decreaseParticipantCount(@Param("id") Long id);
 
-    @Query(value = "select p from Post p where dwithin(p.restaurantPoint, :point, 1500, false) is true and p.isActive is true")
-    Page<Post> findPostByDistance(Pageable pageable, Point point);
+    @Query("select p.participantCount from Post p where p.id = :id")
+    Integer findParticipantCount(@Param("id") Long id);
 }
@@ -0,0 +1,12 @@
+package com.june.swu.domain.post.repository;
+
+import com.june.swu.domain.post.entity.PostStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PostStatRepository extends JpaRepository<PostStat, Long> {
+    @Query("select s from PostStat s where s.postId in (select p.id from Post p where p.isActive = true)")
+    List<PostStat> findActivePostStats();
+}
@@ -0,0 +1,133 @@
+package com.june.swu.domain.post.service;
+
+import com.june.swu.domain.post.dto.response.ParticipantResponseDto;
+import com.june.swu.domain.post.dto.response.ParticipationResponseDto;
+import com.june.swu.domain.post.entity.Participation;
+import com.june.swu.domain.post.entity.Post;
+import com.june.swu.domain.post.exception.CAlreadyParticipatedException;
+import com.june.swu.domain.post.exception.CParticipationNotFoundException;
+import com.june.swu.domain.post.exception.CPostFullException;
+import com.june.swu.domain.post.exception.CPostNotFoundException;
+import com.june.swu.domain.post.repository.ParticipationRepository;
+import com.june.swu.domain.post.repository.PostRepository;
+import com.june.swu.domain.token.config.JwtPrincipal;
+import com.june.swu.domain.user.entity.User;
+import com.june.swu.domain.user.exception.CUserNotFoundException;
+import com.june.swu.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글(공동 주문) 참여
+ *
+ * 참여 인원은 게시글 행을 잠그지 않고 "빈 자리가 있을 때만 1 증가"하는 조건부 update 한 번으로 확보합니다.
+ * 같은 게시글에 동시에 참여 요청이 몰려도 update 가 성공한 요청만 자리를 얻으므로 모집 인원을 넘지 않습니다.
+ * 자리를 얻은 뒤 참여 내역 저장이 실패하면 트랜잭션이 롤백되어 확보한 자리도 함께 반환됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParticipationService {
+    private final PostRepository postRepository;
+    private final ParticipationRepository participationRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 게시글 참여
+     *
+     * 작성자 본인이거나 이미 참여한 경우, 모집이 마감된 경우(인원 초과, 주문 시간 경과)에는 참여할 수 없습니다.
+     *
+     * @param postId
+     * @param principal
+     * @return
+     */
+    @Transactional
+    public ParticipationResponseDto join(Long postId, JwtPrincipal principal) {
+        User user = userRepository
+                .findById(principal.getUserId())
+                .orElseThrow(CUserNotFoundException::new);
+
+        Post post = postRepository
+                .findPostById(postId)
+                .orElseThrow(CPostNotFoundException::new);
+
+        // 작성자는 이미 참여한 것으로 취급
+        if (user.equals(post.getCreator())
+                || participationRepository.existsParticipation(postId, user.getUserId())) {
+            throw new CAlreadyParticipatedException();
+        }
+
+        // 자리 확보 (영향받은 행이 없으면 마감)
+        if (postRepository.increaseParticipantCount(postId, LocalDateTime.now()) == 0) {
+            throw new CPostFullException();
+        }
+
+        try {
+            participationRepository.saveAndFlush(Participation.builder()
+                    .post(post)
+                    .user(user)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 회원의 동시 참여 요청은 유니크 제약으로 한 건만 저장됨 (이 트랜잭션은 롤백되어 자리도 반환)
+            throw new CAlreadyParticipatedException();
+        }
+
+        return mapToParticipationResponseDto(post);
+    }
+
+    /**
+     * 게시글 참여 취소
+     *
+     * @param postId
+     * @param principal
+     * @return
+     */
+    @Transactional
+    public ParticipationResponseDto leave(Long postId, JwtPrincipal principal) {
+        User user = userRepository
+                .findById(principal.getUserId())
+                .orElseThrow(CUserNotFoundException::new);
+
+        Post post = postRepository
+                .findPostById(postId)
+                .orElseThrow(CPostNotFoundException::new);
+
+        // 참여 내역을 실제로 지운 요청만 자리를 반환 (동시 취소 요청이 자리를 두 번 반환하지 않도록)
+        if (participationRepository.deleteParticipation(postId, user.getUserId()) == 0) {
+            throw new CParticipationNotFoundException();
+        }
+        postRepository.decreaseParticipantCount(postId);
+
+        return mapToParticipationResponseDto(post);
+    }
+
+    /**
+     * 게시글 참여자 목록 조회
+     *
+     * @param postId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<ParticipantResponseDto> getParticipants(Long postId) {
+        postRepository
+                .findPostById(postId)
+                .orElseThrow(CPostNotFoundException::new);
+
+        return participationRepository.findParticipants(postId);
+    }
+
+    /**
+     * 조건부 update 는 영속성 컨텍스트를 거치지 않으므로, 참여 인원은 DB 에서 다시 읽어 응답합니다.
+     */
+    private ParticipationResponseDto mapToParticipationResponseDto(Post post) {
+        return ParticipationResponseDto.builder()
+                .postId(post.getId())
+                .recruitment(post.getRecruitment())
+                .participantCount(postRepository.findParticipantCount(post.getId()))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.june.swu.domain.post.service;
+
+import com.june.swu.domain.post.event.PostChangedEvent;
+import com.june.swu.domain.post.index.PostExpiryWheel;
+import com.june.swu.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 만료 처리
+ *
+ * 주기적으로 타이밍 휠에서 주문 예정 시간이 지난 게시글을 꺼내 일정 크기씩 묶어 한 번의 update 로 비활성화합니다.
+ * 커밋 이후 만료 이벤트를 발행하여 메모리의 인덱스에서도 제거합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostExpiryService {
+    private static final int BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostExpiryWheel postExpiryWheel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelay = PostExpiryWheel.TICK_MILLIS)
+    public void expirePosts() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> expiredIds = postExpiryWheel.pollExpired(now);
+
+        for (int from = 0; from < expiredIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = expiredIds.subList(from, Math.min(from + BATCH_SIZE, expiredIds.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> expire(batch, now));
+            } catch (RuntimeException e) {
+                // 실패한 묶음은 다음 tick 에 다시 시도
+                log.error("게시글 만료 처리에 실패하였습니다. ({}건)", batch.size(), e);
+                batch.forEach(id -> postExpiryWheel.schedule(id, now));
+            }
+        }
+    }
+
+    private void expire(List<Long> ids, LocalDateTime now) {
+        int expired = postRepository.expirePosts(ids, now);
+
+        // 그 사이 주문 시간이 수정된 게시글은 update 되지 않으므로 실제로 비활성화된 게시글만 인덱스에서 제거
+        postRepository.findInactivePostIds(ids)
+                .forEach(id -> eventPublisher.publishEvent(PostChangedEvent.expired(id)));
+        log.info("[PostExpiry] {} posts expired", expired);
+    }
+}
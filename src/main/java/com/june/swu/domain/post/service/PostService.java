@@ -1,57 +1,107 @@
 package com.june.swu.domain.post.service;
 
+import com.june.swu.domain.post.dto.request.NearbySort;
 import com.june.swu.domain.post.dto.request.PointRequestDto;
+import com.june.swu.domain.post.dto.request.PostBulkCreateRequestDto;
 import com.june.swu.domain.post.dto.request.PostCreateRequestDto;
 import com.june.swu.domain.post.dto.request.PostUpdateRequestDto;
 import com.june.swu.domain.post.dto.response.PointResponseDto;
+import com.june.swu.domain.post.dto.response.PostBulkCreateResponseDto;
 import com.june.swu.domain.post.dto.response.PostResponseDto;
 import com.june.swu.domain.post.entity.Post;
+import com.june.swu.domain.post.event.PostChangedEvent;
+import com.june.swu.domain.post.exception.CBulkSizeExceededException;
 import com.june.swu.domain.post.exception.CPostNotFoundException;
 import com.june.swu.domain.post.exception.CPostUpdateNotAllowed;
+import com.june.swu.domain.post.exception.CRecruitmentBelowParticipantsException;
+import com.june.swu.domain.post.index.PostCounter;
+import com.june.swu.domain.post.index.PostExpiryWheel;
+import com.june.swu.domain.post.index.PostLocationIndex;
+import com.june.swu.domain.post.index.PostTileCache;
+import com.june.swu.domain.post.index.PostTitleIndex;
 import com.june.swu.domain.post.repository.PostRepository;
-import com.june.swu.domain.token.config.JwtProvider;
-import com.june.swu.domain.token.exception.CAccessTokenException;
+import com.june.swu.domain.token.config.JwtPrincipal;
 import com.june.swu.domain.user.entity.User;
 import com.june.swu.domain.user.exception.CUserNotFoundException;
 import com.june.swu.domain.user.repository.UserRepository;
+import com.june.swu.global.common.export.NdjsonExporter;
+import com.june.swu.global.common.pagination.Cursor;
+import com.june.swu.global.common.pagination.CursorSlice;
+import com.june.swu.global.exception.CInvalidCursorException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.Authentication;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class PostService {
+    private static final double MAX_NEARBY_RADIUS_METER = 5000;    // 인근 피드 최대 반경(m)
+    private static final double METER_PER_DEGREE = 111_320;
+    private static final long LIKE_CURSOR_SCORE = -1;   // like 검색으로 만든 검색 커서의 점수 자리 (색인 점수는 0 이상)
+    private static final int BULK_BATCH_SIZE = 50;  // hibernate.jdbc.batch_size 와 같게 유지
+    // 좌표는 x 를 위도로 저장 (PostResponseDto 와 같은 기준)
+    private static final String EXPORT_POSTS_SQL = "select p.id, u.name as creator_name, p.title, p.order_at, p.recruitment, " +
+            "p.participant_count, st_x(p.restaurant_point) as latitude, st_y(p.restaurant_point) as longitude, p.food_category " +
+            "from post p join users u on u.user_id = p.creator_id where p.is_active = true order by p.id";
+
     private final PostRepository postRepository;
-    private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
+    private final PostLocationIndex postLocationIndex;
+    private final PostTitleIndex postTitleIndex;
+    private final PostTileCache postTileCache;
+    private final PostExpiryWheel postExpiryWheel;
+    private final PostSubscriptionService postSubscriptionService;
+    private final PostCounter postCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final NdjsonExporter ndjsonExporter;
+    private final EntityManager entityManager;
     private GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);  // 0(좌표 평면), 4326(위도-경도 좌표계)
 
     /**
      * 게시글 작성
      *
-     * accessToken에서 요청한 사람의 정보를 가져와 post를 저장합니다.
+     * 인증 필터가 검증한 principal 로 요청한 사람의 정보를 가져와 post를 저장합니다.
      * 식당의 좌표 정보도 함께 가져와 location에 저장합니다.
      *
      * @param postCreateRequestDto
-     * @param accessToken
+     * @param principal
      * @return
      */
     @Transactional
-    public PostResponseDto createPost(PostCreateRequestDto postCreateRequestDto, String accessToken) {
-        Authentication authentication = getAuthByAccessToken(accessToken);
-
+    public PostResponseDto createPost(PostCreateRequestDto postCreateRequestDto, JwtPrincipal principal) {
         // user pk로 유저 검색 / repo 에 저장된 Refresh Token 가져오기
         User user = userRepository
-                .findById(Long.parseLong(authentication.getName()))
+                .findById(principal.getUserId())
                 .orElseThrow(CUserNotFoundException::new);
 
         Point point = getPoint(
@@ -62,7 +112,58 @@ public class PostService {
         Post post = postCreateRequestDto.toEntity(user, point);
         Post savedPost = postRepository.save(post);
 
-        return mapPostEntityToPostResponseDto(savedPost);
+        PostResponseDto postResponseDto = mapPostEntityToPostResponseDto(savedPost);
+        eventPublisher.publishEvent(PostChangedEvent.created(postResponseDto));  // 커밋 이후 인덱스, 캐시에 반영
+
+        return postResponseDto;
+    }
+
+    /**
+     * 게시글 일괄 작성
+     *
+     * 요청한 사람을 한 번만 조회한 뒤, 검증을 통과한 게시글들을 BULK_BATCH_SIZE 건씩 묶어 저장합니다.
+     * 게시글 id 는 pooled 시퀀스로 미리 할당되므로 insert 가 JDBC 배치로 전송됩니다.
+     * 게시글별 등록 결과(성공 시 게시글 번호, 실패 시 사유)를 요청 순서대로 반환합니다.
+     *
+     * @param postCreateRequestDtos
+     * @param principal
+     * @return
+     */
+    @Transactional
+    public List<PostBulkCreateResponseDto> createPosts(List<PostCreateRequestDto> postCreateRequestDtos, JwtPrincipal principal) {
+        if (postCreateRequestDtos.size() > PostBulkCreateRequestDto.MAX_SIZE) {
+            throw new CBulkSizeExceededException();
+        }
+
+        // 작성자는 한 번만 조회
+        User user = userRepository
+                .findById(principal.getUserId())
+                .orElseThrow(CUserNotFoundException::new);
+
+        List<PostBulkCreateResponseDto> results = new ArrayList<>(Collections.nCopies(postCreateRequestDtos.size(), null));
+        Map<Integer, Post> batch = new LinkedHashMap<>();   // 요청 순번 -> 저장 대기 중인 게시글
+        for (int index = 0; index < postCreateRequestDtos.size(); index++) {
+            PostCreateRequestDto postCreateRequestDto = postCreateRequestDtos.get(index);
+
+            String violation = validate(postCreateRequestDto);
+            if (violation != null) {
+                results.set(index, PostBulkCreateResponseDto.builder().index(index).success(false).message(violation).build());
+                continue;
+            }
+
+            Point point = getPoint(
+                    postCreateRequestDto.getPointRequestDto().getLatitude(),    // 위도
+                    postCreateRequestDto.getPointRequestDto().getLongitude()    // 경도
+            );
+            batch.put(index, postCreateRequestDto.toEntity(user, point));
+
+            if (batch.size() == BULK_BATCH_SIZE) {
+                saveBatch(batch, results);
+            }
+        }
+        saveBatch(batch, results);
+
+        return results;
     }
 
     /**
@@ -71,23 +172,22 @@ public class PostService {
      * 게시글 번호를 통해 post를 찾습니다.
      * access Token을 통해 요청한 사람과 post 작성자가 일치하는지 검사 합니다.
      * 식당 좌표 정보 또한 함께 업데이트합니다.
+     * 모집 인원은 현재 참여 인원보다 적게 줄일 수 없습니다.
      *
      * @param postUpdateRequestDto
-     * @param accessToken
+     * @param principal
      * @return
      */
     @Transactional
-    public PostResponseDto updatePost(PostUpdateRequestDto postUpdateRequestDto, String accessToken) {
-        Authentication authentication = getAuthByAccessToken(accessToken);
-
+    public PostResponseDto updatePost(PostUpdateRequestDto postUpdateRequestDto, JwtPrincipal principal) {
         // user pk로 유저 검색 / repo 에 저장된 Refresh Token 가져오기
         User user = userRepository
-                .findById(Long.parseLong(authentication.getName()))
+                .findById(principal.getUserId())
                 .orElseThrow(CUserNotFoundException::new);
 
-        // 게시글 찾기
+        // 게시글 찾기 (삭제된 게시글은 수정할 수 없음)
         Post post = postRepository
-                        .findById(postUpdateRequestDto.getPostId())
+                        .findPostById(postUpdateRequestDto.getPostId())
                         .orElseThrow(CPostNotFoundException::new);
 
         // 수정 요청자와 게시글 작성자 비교
@@ -95,14 +195,23 @@ public class PostService {
             throw new CPostUpdateNotAllowed();
         }
 
+        // 엔티티를 바꾸기 전에 조건부 update 로 먼저 검사 (이후 커밋까지 행 잠금이 유지되어 그 사이 참여가 끼어들 수 없음)
+        if (postRepository.updateRecruitment(post.getId(), postUpdateRequestDto.getRecruitment()) == 0) {
+            throw new CRecruitmentBelowParticipantsException();
+        }
+
         Point point = getPoint(
                 postUpdateRequestDto.getLocation().getLatitude(),    // 위도
                 postUpdateRequestDto.getLocation().getLongitude()    // 경도
         );
 
+        PointResponseDto previousLocation = mapPointToPointResponseDto(post.getRestaurantPoint());
         post.updatePost(postUpdateRequestDto, point);  // post 업데이트
 
-        return mapPostEntityToPostResponseDto(post);
+        PostResponseDto postResponseDto = mapPostEntityToPostResponseDto(post);
+        eventPublisher.publishEvent(PostChangedEvent.updated(postResponseDto, previousLocation));  // 커밋 이후 인덱스, 캐시에 반영
+
+        return postCounter.withCounts(postResponseDto);
     }
 
     /**
@@ -112,15 +221,13 @@ public class PostService {
      * isActive 필드만 false로 설정합니다.
      *
      * @param id
-     * @param accessToken
+     * @param principal
      */
     @Transactional
-    public void deletePost(Long id, String accessToken) {
-        Authentication authentication = getAuthByAccessToken(accessToken);
-
+    public void deletePost(Long id, JwtPrincipal principal) {
         // user pk로 유저 검색 / repo 에 저장된 Refresh Token 가져오기
         User user = userRepository
-                .findById(Long.parseLong(authentication.getName()))
+                .findById(principal.getUserId())
                 .orElseThrow(CUserNotFoundException::new);
 
         // 게시글 찾기
@@ -135,85 +242,384 @@ public class PostService {
 
         post.deletePost();
         postRepository.save(post);
+
+        eventPublisher.publishEvent(PostChangedEvent.deleted(
+                post.getId(), mapPointToPointResponseDto(post.getRestaurantPoint())));  // 커밋 이후 인덱스, 캐시에서 제거
+    }
+
+    /**
+     * 게시글 상세 조회
+     *
+     * 게시글을 조회하고 조회수를 1 올립니다.
+     * 조회수는 메모리에 모았다가 주기적으로 DB에 반영하므로 조회마다 update 가 발생하지 않습니다.
+     *
+     * @param postId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto getPost(Long postId) {
+        PostResponseDto post = findActivePost(postId);
+        postCounter.increaseView(postId);
+        return postCounter.withCounts(post);
+    }
+
+    /**
+     * 게시글 관심 표시
+     *
+     * 게시글의 관심 수를 1 올립니다.
+     *
+     * @param postId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto addInterest(Long postId) {
+        PostResponseDto post = findActivePost(postId);
+        postCounter.increaseInterest(postId);
+        return postCounter.withCounts(post);
+    }
+
+    /**
+     * 주문 시간이 지나지 않은 게시글을 위치 인덱스에서 찾고, 인덱스에 없다면 DB에서 조회합니다.
+     */
+    private PostResponseDto findActivePost(Long postId) {
+        LocalDateTime now = LocalDateTime.now();
+        PostResponseDto post = postLocationIndex.isReady() ? postLocationIndex.get(postId) : null;
+        if (post == null) {
+            post = postRepository.findPostsByIds(Collections.singletonList(postId), now).stream()
+                    .findFirst()
+                    .orElseThrow(CPostNotFoundException::new);
+        }
+
+        if (!post.getOrderAt().isAfter(now)) {
+            throw new CPostNotFoundException();
+        }
+        return post;
+    }
+
+    /**
+     * 활성 게시글 내보내기 (NDJSON)
+     *
+     * 게시글 번호 순서로 한 줄에 게시글 하나씩 씁니다. 조회수, 관심 수는 메모리의 최신 값을 사용합니다.
+     *
+     * @return
+     */
+    public StreamingResponseBody exportPosts() {
+        return ndjsonExporter.export(EXPORT_POSTS_SQL, (resultSet, generator) -> {
+            long postId = resultSet.getLong("id");
+            generator.writeNumberField("postId", postId);
+            generator.writeStringField("creatorName", resultSet.getString("creator_name"));
+            generator.writeStringField("title", resultSet.getString("title"));
+            generator.writeStringField("orderAt", resultSet.getTimestamp("order_at").toLocalDateTime().toString());
+            generator.writeNumberField("recruitment", resultSet.getInt("recruitment"));
+            generator.writeNumberField("participantCount", resultSet.getInt("participant_count"));
+            generator.writeObjectFieldStart("location");
+            generator.writeNumberField("latitude", resultSet.getDouble("latitude"));
+            generator.writeNumberField("longitude", resultSet.getDouble("longitude"));
+            generator.writeEndObject();
+            generator.writeStringField("foodCategory", resultSet.getString("food_category"));
+            generator.writeNumberField("viewCount", postCounter.viewCount(postId));
+            generator.writeNumberField("interestCount", postCounter.interestCount(postId));
+        });
     }
 
     /**
      * 게시글 목록 조회
      *
-     * page 객체를 통해 게시글의 목록을 조회합니다.
+     * 커서(after)를 기준으로 최신 게시글부터 목록을 조회합니다.
+     * count 쿼리 없이 다음 페이지 존재 여부만 함께 반환합니다.
      *
-     * @param page
+     * @param after
      * @param size
      * @return
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto> getPostListWithPagination(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        return postRepository.findPostsWithPagination(pageRequest).stream()
-                .map(this::mapPostEntityToPostResponseDto)
-                .collect(Collectors.toList());
+    public CursorSlice<PostResponseDto> getPostListWithPagination(String after, int size) {
+        PageRequest pageRequest = PageRequest.of(0, size);
+        Slice<PostResponseDto> slice = postRepository
+                .findPostsWithPagination(Cursor.decodeId(after), LocalDateTime.now(), pageRequest);
+        return CursorSlice.of(slice.getContent(), slice.hasNext(), post -> Cursor.encode(post.getPostId()))
+                .map(postCounter::withCounts);
     }
 
     /**
      * 게시글 목록 조회(검색어)
      *
-     * 검색어를 받아 게시글의 목록을 조회합니다.
+     * 검색어를 받아 관련도가 높은 순서로 커서(after) 이후의 게시글 목록을 조회합니다.
+     * 메모리의 제목 색인에서 게시글 번호를 찾은 뒤 해당 게시글들만 DB에서 가져오며,
+     * 색인이 아직 적재되지 않았다면 like 검색으로 조회합니다.
+     * like 검색으로 시작한 페이지는 색인 적재 이후에도 같은 순서(게시글 번호 역순)로 이어서 조회합니다.
      *
-     * @param page
+     * @param after
      * @param size
      * @param keyword
      * @return
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto> getPostListByKeywordWithPagination(int page, int size, String keyword) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        return postRepository.findPostsByKeywordWithPagination(pageRequest, keyword).stream()
-                .map(this::mapPostEntityToPostResponseDto)
-                .collect(Collectors.toList());
+    public CursorSlice<PostResponseDto> getPostListByKeywordWithPagination(String after, int size, String keyword) {
+        if (keyword.isBlank()) {
+            return getPostListWithPagination(after, size);
+        }
+
+        // 검색 커서는 (점수, 게시글 번호)로 이루어짐
+        long[] cursor = after == null || after.isEmpty() ? null : decodeSearchCursor(after);
+
+        boolean likeCursor = cursor != null && cursor[0] == LIKE_CURSOR_SCORE;
+
+        if (postTitleIndex.isReady() && !likeCursor) {
+            PostTitleIndex.Hit after = cursor == null ? null : new PostTitleIndex.Hit(cursor[1], (int) cursor[0]);
+            List<PostTitleIndex.Hit> hits = postTitleIndex.search(keyword, after, size + 1);
+            if (hits.isEmpty()) {
+                return new CursorSlice<>(Collections.emptyList(), false, null);
+            }
+
+            // 다음 페이지 여부와 커서는 색인 결과 기준 (만료, 삭제되어 DB에서 빠진 게시글이 있어도 다음 페이지를 잃지 않음)
+            boolean hasNext = hits.size() > size;
+            List<PostTitleIndex.Hit> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+            Map<Long, PostResponseDto> posts = postRepository
+                    .findPostsByIds(pageHits.stream().map(PostTitleIndex.Hit::getPostId).collect(Collectors.toList()),
+                            LocalDateTime.now())
+                    .stream()
+                    .collect(Collectors.toMap(PostResponseDto::getPostId, Function.identity()));
+
+            List<PostResponseDto> rows = pageHits.stream()
+                    .map(hit -> posts.get(hit.getPostId()))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            PostTitleIndex.Hit last = pageHits.get(pageHits.size() - 1);
+            String nextCursor = hasNext ? Cursor.encode(last.getScore(), last.getPostId()) : null;
+            return new CursorSlice<>(rows, hasNext, nextCursor).map(postCounter::withCounts);
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+        Slice<PostResponseDto> slice = postRepository
+                .findPostsByKeywordWithPagination(
+                        cursor == null ? Long.MAX_VALUE : cursor[1], LocalDateTime.now(), pageRequest, keyword);
+        return CursorSlice.of(slice.getContent(), slice.hasNext(),
+                        post -> Cursor.encode(LIKE_CURSOR_SCORE, post.getPostId()))
+                .map(postCounter::withCounts);
     }
 
     /**
      * 게시글 목록 조회(위치 기반)
      *
-     * 사용자의 좌표를 받아 사용자와 일정 거리 이내에 있는 게시글들의 목록을 조회합니다.
+     * 사용자의 좌표를 받아 반경(radius) 이내에 있는 게시글들의 목록을 커서(after) 이후부터 조회합니다.
+     * 정렬 기준이 DISTANCE 라면 가까운 식당 순으로, LATEST 라면 최신 게시글 순으로 반환하며
+     * 각 게시글에는 사용자와 식당 사이의 거리가 함께 담깁니다.
+     * 타일 캐시와 메모리의 위치 인덱스에서 조회하며, 인덱스가 아직 적재되지 않았다면 DB에서 조회합니다.
      *
-     * @param page
+     * @param after
      * @param size
+     * @param radius
+     * @param sort
      * @param pointRequestDto
      * @return
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto> getPostListByPointWithPagination(int page, int size, PointRequestDto pointRequestDto) {
-        PageRequest pageRequest = PageRequest.of(page, size);
+    public CursorSlice<PostResponseDto> getPostListByPointWithPagination(
+            String after, int size, double radius, NearbySort sort, PointRequestDto pointRequestDto) {
+        double radiusMeter = Math.min(Math.max(radius, 0), MAX_NEARBY_RADIUS_METER);   // 요청 반경은 최대 반경으로 제한
 
-        Point point = getPoint(
-                pointRequestDto.getLatitude(),    // 위도
-                pointRequestDto.getLongitude()    // 경도
-        );
+        List<PostResponseDto> nearbyPosts = findNearbyPosts(pointRequestDto, radiusMeter);
+
+        if (sort == NearbySort.DISTANCE) {
+            return getNearestPostList(after, size, nearbyPosts).map(postCounter::withCounts);
+        }
+
+        long afterId = Cursor.decodeId(after);
+        List<PostResponseDto> rows = nearbyPosts.stream()
+                .filter(post -> post.getPostId() < afterId)
+                .sorted(Comparator.comparing(PostResponseDto::getPostId).reversed())
+                .limit(size + 1L)
+                .collect(Collectors.toList());
+        return CursorSlice.ofOverFetched(rows, size, post -> Cursor.encode(post.getPostId()))
+                .map(postCounter::withCounts);
+    }
 
-        return postRepository.findPostByDistance(pageRequest, point).stream()
-                .map(this::mapPostEntityToPostResponseDto)
+    /**
+     * 반경 내 게시글 조회
+     *
+     * 요청 좌표가 속한 타일의 후보 게시글을 캐시에서 가져온 뒤, 주문 시간이 지난 게시글과
+     * 요청 좌표와의 실제 거리가 반경을 넘는 게시글을 걸러내고 거리를 채웁니다.
+     * 캐시에 없다면 위치 인덱스(적재 전이라면 DB)에서 후보를 조회합니다.
+     *
+     * @param pointRequestDto
+     * @param radiusMeter
+     * @return
+     */
+    private List<PostResponseDto> findNearbyPosts(PointRequestDto pointRequestDto, double radiusMeter) {
+        LocalDateTime now = LocalDateTime.now();
+        return postTileCache
+                .getCandidates(pointRequestDto.getLatitude(), pointRequestDto.getLongitude(), radiusMeter,
+                        this::findPostsWithin)
+                .stream()
+                .filter(post -> post.getOrderAt().isAfter(now))  // 만료 처리 전이라도 주문 시간이 지난 게시글은 제외
+                .map(post -> withDistance(post, pointRequestDto))
+                .filter(post -> post.getDistance() <= radiusMeter)
                 .collect(Collectors.toList());
     }
 
+    private List<PostResponseDto> findPostsWithin(double latitude, double longitude, double radiusMeter) {
+        if (postLocationIndex.isReady()) {
+            return postLocationIndex.findWithin(latitude, longitude, radiusMeter);
+        }
+
+        // geometry(4326) 컬럼의 dwithin 은 도(degree) 단위이므로, 경도 방향까지 덮도록 반경을 도 단위로 넉넉히 바꿔 조회
+        // (반경 밖의 후보는 findNearbyPosts 에서 실제 거리로 걸러짐)
+        double radiusDegree = radiusMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        return postRepository.findPostsWithinRadius(getPoint(latitude, longitude), radiusDegree, LocalDateTime.now());
+    }
+
+    /**
+     * 인근 게시글 구독
+     *
+     * 사용자의 좌표와 반경을 등록하고, 이후 반경 안에서 작성, 수정되는 게시글을 Server-Sent Events 로 전달받습니다.
+     *
+     * @param latitude
+     * @param longitude
+     * @param radius
+     * @return
+     */
+    public SseEmitter subscribePostsByPoint(double latitude, double longitude, double radius) {
+        double radiusMeter = Math.min(Math.max(radius, 0), MAX_NEARBY_RADIUS_METER);   // 요청 반경은 최대 반경으로 제한
+        return postSubscriptionService.subscribe(latitude, longitude, radiusMeter);
+    }
+
     /**
-     * 인증정보 가져오기
+     * 가까운 순 인근 피드 조회
      *
-     * access token을 검증하고, claims에 포함된 정보를 가져옵니다.
+     * 반경 내 게시글 중 커서(거리, 게시글 번호) 이후의 게시글을 가까운 순으로 size개 고릅니다.
+     * 전체를 정렬하지 않고 크기가 size + 1 인 힙으로 상위 K개만 유지합니다.
      *
-     * @param accessToken
+     * @param after
+     * @param size
+     * @param candidates
      * @return
      */
-    private Authentication getAuthByAccessToken(String accessToken) {
-        // 만료된 access token인지 확인
-        if (!jwtProvider.validationToken(accessToken)) {
-            throw new CAccessTokenException();
+    private CursorSlice<PostResponseDto> getNearestPostList(
+            String after, int size, List<PostResponseDto> candidates) {
+        double[] cursor = after == null || after.isEmpty() ? null : decodeDistanceCursor(after);
+
+        Comparator<PostResponseDto> nearestFirst = Comparator
+                .comparing(PostResponseDto::getDistance)
+                .thenComparing(PostResponseDto::getPostId);
+
+        // 가장 먼 게시글이 꼭대기에 오는 힙으로 가까운 size + 1 개만 유지 (용량은 후보 수만큼만 늘어남)
+        PriorityQueue<PostResponseDto> heap = new PriorityQueue<>(nearestFirst.reversed());
+        for (PostResponseDto post : candidates) {
+            if (cursor != null && (post.getDistance() < cursor[0]
+                    || (post.getDistance() == cursor[0] && post.getPostId() <= (long) cursor[1]))) {
+                continue;
+            }
+
+            heap.offer(post);
+            if (heap.size() > size + 1) {
+                heap.poll();
+            }
         }
 
-        // AccessToken 에서 Username (pk) 가져오기
-        Authentication authentication = jwtProvider.getAuthentication(accessToken);
+        List<PostResponseDto> rows = new ArrayList<>(heap);
+        rows.sort(nearestFirst);
+        return CursorSlice.ofOverFetched(rows, size, post -> Cursor.encode(post.getDistance(), post.getPostId()));
+    }
 
-        return authentication;
+    /**
+     * 게시글 인덱스 적재
+     *
+     * 서버가 준비되면 활성화된 게시글 전체를 위치 인덱스, 제목 색인, 만료 타이밍 휠에 올립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadPostIndexes() {
+        try {
+            List<PostResponseDto> activePosts = postRepository.findAllActivePosts();
+            postLocationIndex.load(activePosts);
+            postTitleIndex.load(activePosts);
+            postExpiryWheel.load(activePosts);
+        } catch (RuntimeException e) {
+            log.error("게시글 인덱스 적재에 실패하였습니다. 게시글 목록은 DB에서 조회합니다.", e);
+        }
+    }
+
+    /**
+     * 거리순 커서를 (거리, 게시글 번호)로 해석합니다.
+     */
+    private double[] decodeDistanceCursor(String after) {
+        String[] values = Cursor.decode(after, 2);
+        try {
+            return new double[]{Double.parseDouble(values[0]), Long.parseLong(values[1])};
+        } catch (NumberFormatException e) {
+            throw new CInvalidCursorException();
+        }
+    }
+
+    /**
+     * DB에서 조회한 게시글에 요청 좌표와의 거리를 채웁니다.
+     */
+    private PostResponseDto withDistance(PostResponseDto post, PointRequestDto pointRequestDto) {
+        return PostLocationIndex.withDistance(post, PostLocationIndex.distanceMeter(
+                pointRequestDto.getLatitude(), pointRequestDto.getLongitude(),
+                post.getLocation().getLatitude(), post.getLocation().getLongitude()));
+    }
+
+    /**
+     * 검색 커서를 (점수, 게시글 번호)로 해석합니다.
+     */
+    private long[] decodeSearchCursor(String after) {
+        String[] values = Cursor.decode(after, 2);
+        try {
+            long[] cursor = new long[]{Long.parseLong(values[0]), Long.parseLong(values[1])};
+            if (cursor[0] < LIKE_CURSOR_SCORE || cursor[0] > Integer.MAX_VALUE) {
+                throw new CInvalidCursorException();
+            }
+            return cursor;
+        } catch (NumberFormatException e) {
+            throw new CInvalidCursorException();
+        }
+    }
+
+    /**
+     * 모아둔 게시글을 한 번에 저장하고 영속성 컨텍스트를 비웁니다.
+     * 저장된 게시글 번호는 일괄 작성 결과에 채우고, 커밋 이후 인덱스에 반영되도록 이벤트를 발행합니다.
+     *
+     * @param batch
+     * @param results
+     */
+    private void saveBatch(Map<Integer, Post> batch, List<PostBulkCreateResponseDto> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        postRepository.saveAll(batch.values());
+        postRepository.flush();
+        batch.forEach((index, post) -> {
+            results.set(index, PostBulkCreateResponseDto.builder().index(index).success(true).postId(post.getId()).build());
+            eventPublisher.publishEvent(PostChangedEvent.created(mapPostEntityToPostResponseDto(post)));
+        });
+
+        batch.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * 게시글 작성 요청을 검증하고, 위반 사항이 있다면 메시지를 반환합니다.
+     *
+     * @param postCreateRequestDto
+     * @return
+     */
+    private String validate(PostCreateRequestDto postCreateRequestDto) {
+        if (postCreateRequestDto == null) {
+            return "게시글 정보가 필요합니다.";
+        }
+
+        Set<ConstraintViolation<PostCreateRequestDto>> violations = validator.validate(postCreateRequestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 
     /**
@@ -223,11 +629,7 @@ public class PostService {
      * @return
      */
     private PostResponseDto mapPostEntityToPostResponseDto(Post post) {
-        PointResponseDto pointResponseDto =
-                PointResponseDto.builder()
-                        .latitude(post.getRestaurantPoint().getX())
-                        .longitude(post.getRestaurantPoint().getY())
-                        .build();
+        PointResponseDto pointResponseDto = mapPointToPointResponseDto(post.getRestaurantPoint());
 
         return PostResponseDto.builder()
                 .postId(post.getId())
@@ -241,6 +643,19 @@ public class PostService {
     }
 
 
+    /**
+     * 식당 Point 객체로부터 좌표 응답 모델을 변환합니다.
+     *
+     * @param point
+     * @return
+     */
+    private PointResponseDto mapPointToPointResponseDto(Point point) {
+        return PointResponseDto.builder()
+                .latitude(point.getX())
+                .longitude(point.getY())
+                .build();
+    }
+
     /**
      * 위도, 경도를 받아 Point 객체를 반환하는 메소드
      *
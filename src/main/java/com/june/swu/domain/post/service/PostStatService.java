@@ -0,0 +1,90 @@
+package com.june.swu.domain.post.service;
+
+import com.june.swu.domain.post.index.PostCounter;
+import com.june.swu.domain.post.repository.PostStatRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 조회수, 관심 수 반영 (write-behind)
+ *
+ * 메모리 카운터에 모인 증가분을 FLUSH_MILLIS 마다 꺼내 post_stat 테이블에 배치 upsert 합니다.
+ * 서버가 비정상 종료되면 최대 FLUSH_MILLIS 동안의 증가분을 잃을 수 있고, 정상 종료 시에는 종료 직전에 남은 증가분을 모두 반영합니다.
+ * 반영에 실패한 증가분은 메모리로 되돌려 다음 주기에 다시 시도합니다.
+ */
+@Slf4j
+@Service
+public class PostStatService {
+    public static final long FLUSH_MILLIS = 5_000;
+    private static final int BATCH_SIZE = 500;
+    private static final String UPSERT_POST_STAT =
+            "insert into post_stat (post_id, view_count, interest_count) values (?, ?, ?) " +
+            "on conflict (post_id) do update set " +
+            "view_count = post_stat.view_count + excluded.view_count, " +
+            "interest_count = post_stat.interest_count + excluded.interest_count";
+
+    private final PostCounter postCounter;
+    private final PostStatRepository postStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostStatService(PostCounter postCounter, PostStatRepository postStatRepository, JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.postCounter = postCounter;
+        this.postStatRepository = postStatRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("post.stat.pending", postCounter, PostCounter::pendingCount)
+                .description("DB에 반영되지 않은 조회수, 관심 수 증가분")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPostStats() {
+        try {
+            postCounter.load(postStatRepository.findActivePostStats());
+        } catch (RuntimeException e) {
+            log.error("게시글 조회수 적재에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 모인 증가분을 DB에 반영합니다.
+     * 스케줄러와 종료 처리가 겹치더라도 같은 증가분을 두 번 쓰지 않도록 한 번에 하나씩만 실행합니다.
+     */
+    @Scheduled(fixedDelay = FLUSH_MILLIS)
+    public synchronized void flush() {
+        List<PostCounter.Delta> deltas = postCounter.drain();
+
+        for (int from = 0; from < deltas.size(); from += BATCH_SIZE) {
+            List<PostCounter.Delta> batch = deltas.subList(from, Math.min(from + BATCH_SIZE, deltas.size()));
+            try {
+                // 묶음 단위로 커밋해야 실패 시 되돌린 증가분이 일부만 반영된 채로 다시 쓰이지 않음
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_POST_STAT,
+                        batch.stream()
+                                .map(delta -> new Object[]{delta.getPostId(), delta.getViews(), delta.getInterests()})
+                                .collect(Collectors.toList())));
+                postCounter.commit(batch);
+            } catch (RuntimeException e) {
+                log.error("게시글 조회수 반영에 실패하였습니다. ({}건)", batch.size(), e);
+                postCounter.restore(batch);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,207 @@
+package com.june.swu.domain.post.service;
+
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.event.PostChangedEvent;
+import com.june.swu.domain.post.index.PostLocationIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인근 게시글 실시간 구독 (Server-Sent Events)
+ *
+ * 클라이언트가 등록한 위치를 격자 단위로 보관하고, 게시글이 작성되거나 수정되면 반경 안에 있는 구독자에게만 게시글을 전송합니다.
+ * 연결은 서블릿 비동기 요청(SseEmitter)으로 유지하므로 대기 중인 연결마다 스레드를 점유하지 않으며,
+ * 전송은 커밋 스레드가 아닌 별도의 작은 스레드 풀에서 수행합니다.
+ */
+@Slf4j
+@Service
+public class PostSubscriptionService {
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;   // 30분, 이후 클라이언트가 재연결
+    private static final double CELL_SIZE_DEGREE = 0.1;     // 구독 격자 한 칸의 크기, 위도 60도 이하에서 최대 반경(5km) 이상
+    private static final int PUSH_THREADS = 4;
+    private static final int PUSH_QUEUE_CAPACITY = 1_000;
+
+    private final Map<Long, Set<Subscription>> cells = new ConcurrentHashMap<>();   // 격자 번호 -> 구독 목록
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final ThreadPoolExecutor pushExecutor = new ThreadPoolExecutor(
+            PUSH_THREADS, PUSH_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(PUSH_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "post-push");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public PostSubscriptionService(MeterRegistry meterRegistry) {
+        Gauge.builder("post.subscriptions", subscriptionCount, AtomicInteger::get)
+                .description("인근 게시글 구독(SSE) 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록
+     *
+     * 요청 좌표와 반경을 등록하고, 연결이 끝나거나 오류가 나면 자동으로 해제합니다.
+     *
+     * @param latitude
+     * @param longitude
+     * @param radiusMeter
+     * @return
+     */
+    public SseEmitter subscribe(double latitude, double longitude, double radiusMeter) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscription subscription = new Subscription(latitude, longitude, radiusMeter, emitter);
+        long cell = cellOf(latitude, longitude);
+
+        cells.compute(cell, (key, subscriptions) -> {
+            Set<Subscription> target = subscriptions == null ? ConcurrentHashMap.newKeySet() : subscriptions;
+            target.add(subscription);
+            return target;
+        });
+        subscriptionCount.incrementAndGet();
+
+        Runnable unsubscribe = () -> unsubscribe(cell, subscription);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        // 연결 직후 응답 헤더를 내보내기 위한 첫 이벤트
+        send(cell, subscription, SseEmitter.event().name("connected").data("subscribed"));
+        return emitter;
+    }
+
+    /**
+     * 게시글 변경 이벤트 처리
+     *
+     * 작성, 수정된 게시글을 커밋 이후 반경 안의 구독자들에게 전송합니다.
+     * 전송 대기열이 가득 찬 경우 해당 게시글의 전송은 건너뛰며, 클라이언트는 피드 조회로 보완합니다.
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted() || subscriptionCount.get() == 0) {
+            return;
+        }
+
+        String eventName = event.getPreviousLocation() == null ? "created" : "updated";
+        try {
+            pushExecutor.execute(() -> push(eventName, event.getPost()));
+        } catch (RejectedExecutionException e) {
+            log.warn("[PostSubscription] push queue is full, post {} skipped", event.getPostId());
+        }
+    }
+
+    /**
+     * 연결 유지용 heartbeat
+     *
+     * 주기적으로 주석 이벤트를 보내 중간 프록시의 연결 종료를 막고, 끊어진 연결을 정리합니다.
+     * 느린 연결에 대한 전송이 공용 스케줄러 스레드를 막지 않도록 전송은 전송 스레드 풀에서 수행합니다.
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void heartbeat() {
+        if (subscriptionCount.get() == 0) {
+            return;
+        }
+
+        try {
+            pushExecutor.execute(() -> cells.forEach((cell, subscriptions) -> subscriptions.forEach(
+                    subscription -> send(cell, subscription, SseEmitter.event().comment("heartbeat")))));
+        } catch (RejectedExecutionException e) {
+            log.warn("[PostSubscription] push queue is full, heartbeat skipped");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdown();
+        cells.values().forEach(subscriptions -> subscriptions.forEach(s -> s.getEmitter().complete()));
+    }
+
+    private void push(String eventName, PostResponseDto post) {
+        double latitude = post.getLocation().getLatitude();
+        double longitude = post.getLocation().getLongitude();
+        int latCell = cellIndex(latitude);
+        int lonCell = cellIndex(longitude);
+
+        // 격자 크기가 최대 반경보다 크므로 주변 3 x 3 격자만 확인하면 충분
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                long cell = cellKey(latCell + dLat, lonCell + dLon);
+                Set<Subscription> subscriptions = cells.get(cell);
+                if (subscriptions == null) {
+                    continue;
+                }
+
+                for (Subscription subscription : subscriptions) {
+                    double distance = PostLocationIndex.distanceMeter(
+                            subscription.getLatitude(), subscription.getLongitude(), latitude, longitude);
+                    if (distance <= subscription.getRadiusMeter()) {
+                        send(cell, subscription, SseEmitter.event()
+                                .name(eventName)
+                                .data(PostLocationIndex.withDistance(post, distance)));
+                    }
+                }
+            }
+        }
+    }
+
+    private void send(long cell, Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.getEmitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊어진 연결
+            unsubscribe(cell, subscription);
+        }
+    }
+
+    private void unsubscribe(long cell, Subscription subscription) {
+        // 같은 격자에 대한 등록과 해제가 겹치더라도 빈 목록 제거가 새 구독을 잃어버리지 않도록 compute 안에서 처리
+        cells.computeIfPresent(cell, (key, subscriptions) -> {
+            if (subscriptions.remove(subscription)) {
+                subscriptionCount.decrementAndGet();
+            }
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private static long cellOf(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static int cellIndex(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE_DEGREE);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Subscription {
+        private final double latitude;
+        private final double longitude;
+        private final double radiusMeter;
+        private final SseEmitter emitter;
+    }
+}
@@ -28,9 +28,12 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         log.info("[Verifying token]");
         log.info(((HttpServletRequest) request).getRequestURL().toString());
 
-        if (token != null && jwtProvider.validationToken(token)) {
-            Authentication authentication = jwtProvider.getAuthentication(token);   // 토큰에서 유저 정보를 추출
-            SecurityContextHolder.getContext().setAuthentication(authentication);   // 해당 정보를 SecurityContextHolder에 저장
+        if (token != null) {
+            // 검증과 유저 정보 추출을 한 번의 파싱으로 처리, 이후 서비스는 SecurityContext 의 principal 만 사용
+            Authentication authentication = jwtProvider.authenticate(token);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);   // 해당 정보를 SecurityContextHolder에 저장
+            }
         }
         filterChain.doFilter(request, response);
     }
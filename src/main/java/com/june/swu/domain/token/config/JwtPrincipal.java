@@ -0,0 +1,41 @@
+package com.june.swu.domain.token.config;
+
+import com.june.swu.domain.user.entity.Role;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 요청의 주체(principal)
+ *
+ * JwtAuthenticationFilter 가 토큰을 한 번 검증한 뒤 SecurityContext 에 담아 두며,
+ * 컨트롤러는 @AuthenticationPrincipal 로 받아 서비스에 넘깁니다. (서비스에서 토큰을 다시 해석하지 않음)
+ * 요청 처리 중에 바뀌지 않도록 불변 객체로 둡니다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class JwtPrincipal implements AuthenticatedPrincipal {
+    private final Long userId;  // 회원 번호 (토큰의 subject)
+    private final List<String> roles;   // 권한 목록 (알 수 없는 권한은 제외)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final List<GrantedAuthority> authorities;   // 권한 조합별로 공유되는 불변 목록 (roles 로부터 계산)
+
+    public JwtPrincipal(Long userId, Collection<String> roles) {
+        this.userId = userId;
+        int roleMask = Role.toKnownMask(roles);   // 토큰에 남아 있는 이전 권한 이름으로 인증이 실패(500)하지 않도록 건너뜀
+        this.roles = Role.names(roleMask);
+        this.authorities = Role.authorities(roleMask);
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
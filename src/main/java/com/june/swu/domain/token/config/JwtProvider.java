@@ -1,39 +1,63 @@
 package com.june.swu.domain.token.config;
 
 import com.june.swu.domain.token.dto.TokenDto;
+import com.june.swu.domain.token.exception.CAccessTokenException;
 import com.june.swu.domain.token.exception.CAuthenticationEntryPointException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.impl.Base64UrlCodec;
+import io.jsonwebtoken.impl.TextCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.crypto.spec.SecretKeySpec;
 import javax.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class JwtProvider {
-    @Value("spring.jwt.secret")
+    // 서명 키는 코드에 두지 않고 설정(private 프로필 또는 환경 변수)에서만 읽으며, 없으면 시작하지 않음 (이전 설정 이름도 읽음)
+    @Value("${swu.jwt.secret:${spring.jwt.secret}}")
     private String secretKey;
 
-    private String ROLES = "roles";
-    private final Long accessTokenValidMillisecond = 60 * 60 * 1000L; // 1 hour
-    private final Long refreshTokenValidMillisecond = 14 * 24 * 60 * 60 * 1000L; // 14 day
+    private static final String ROLES = "roles";
+    private static final long accessTokenValidMillisecond = 60 * 60 * 1000L; // 1 hour
+    private static final long refreshTokenValidMillisecond = 14 * 24 * 60 * 60 * 1000L; // 14 day
     private final UserDetailsService userDetailsService;
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+
+    // true 면 요청마다 회원을 조회하지 않고 토큰의 claims 로 인증 (비활성화 회원 목록이 적재되기 전에는 회원을 조회)
+    @Value("${swu.jwt.stateless:true}")
+    private boolean stateless = true;
+
+    private Key signingKey;     // 서명, 검증에 사용하는 HMAC 키 (시작 시 한 번만 만듦)
+    private JwtParser jwtParser;    // 설정을 마친 뒤에는 변경하지 않으므로 여러 스레드가 공유
 
     @PostConstruct
     protected void init() {
         secretKey = Base64UrlCodec.BASE64URL.encode(secretKey.getBytes(StandardCharsets.UTF_8));
+
+        // 문자열 키를 넘기면 jjwt 가 호출마다 base64 디코딩 후 키를 만들기 때문에, 같은 방식(TextCodec.BASE64)으로 한 번만 디코딩해 둠
+        // (디코딩 결과가 같으므로 기존에 발급된 토큰도 그대로 검증됨)
+        signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        jwtParser = Jwts.parser().setSigningKey(signingKey);
     }
 
     // Jwt 생성
@@ -41,22 +65,22 @@ public class JwtProvider {
         Claims claims = Jwts.claims().setSubject(String.valueOf(userPk));   // 회원을 구분할 수 있는 값으로 userPk 값을 사용
         claims.put(ROLES, roles);
 
-        Date now = new Date();
+        long now = System.currentTimeMillis();
 
         String accessToken =
                 Jwts.builder()
                         .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                         .setClaims(claims)
-                        .setIssuedAt(now)
-                        .setExpiration(new Date(now.getTime() + accessTokenValidMillisecond))
-                        .signWith(SignatureAlgorithm.HS256, secretKey)
+                        .setIssuedAt(new Date(now))
+                        .setExpiration(new Date(now + accessTokenValidMillisecond))
+                        .signWith(SignatureAlgorithm.HS256, signingKey)
                         .compact();
 
         String refreshToken =
                 Jwts.builder()
                         .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
-                        .setExpiration(new Date(now.getTime() + refreshTokenValidMillisecond))
-                        .signWith(SignatureAlgorithm.HS256, secretKey)
+                        .setExpiration(new Date(now + refreshTokenValidMillisecond))
+                        .signWith(SignatureAlgorithm.HS256, signingKey)
                         .compact();
 
         return TokenDto.builder()
@@ -67,28 +91,77 @@ public class JwtProvider {
                 .build();
     }
 
-    // Jwt 토큰 복호화해서 가져오기
+    // 리프레시 토큰 유효 기간 (저장소의 만료 시간 계산용)
+    public Duration getRefreshTokenValidity() {
+        return Duration.ofMillis(refreshTokenValidMillisecond);
+    }
+
+    // Jwt 토큰 복호화해서 가져오기 (만료된 토큰도 claims 를 반환)
+    // 서명이 맞지 않거나 형식이 잘못된 토큰은 validationToken 과 같이 유효하지 않은 access token 으로 처리
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("잘못된 토큰입니다.");
+            throw new CAccessTokenException();
         }
     }
 
-    // Jwt 로 인증정보를 조회
-    public Authentication getAuthentication(String token) {
+    // Jwt 를 한 번만 검증, 복호화하여 인증정보를 만듦 (유효하지 않은 토큰이면 null)
+    // 이미 검증한 토큰이라면 캐시된 claims 를 사용하여 서명 검증을 생략
+    public Authentication authenticate(String token) {
+        // 로그아웃 등으로 폐기된 토큰 (대부분 Bloom filter 에서 바로 통과)
+        String tokenHash = TokenHash.sha256(token);
+        if (revokedTokenRegistry.isRevoked(tokenHash)) {
+            log.error("폐기된 토큰입니다.");
+            return null;
+        }
 
-        // Jwt 에서 claims 추출
-        Claims claims = parseClaims(token);
+        Claims claims = verifiedTokenCache.get(token, tokenHash, this::verifyClaims);
+        if (claims == null) {
+            return null;
+        }
 
         // 권한 정보가 없음
         if (claims.get(ROLES) == null) {
             throw new CAuthenticationEntryPointException();
         }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        Long userId = Long.parseLong(claims.getSubject());
+        JwtPrincipal principal;
+        if (stateless && revokedUserRegistry.isReady()) {
+            // 회원을 조회하지 않고 검증된 claims 만으로 인증정보를 만듦 (비활성화된 회원의 토큰은 거부)
+            if (revokedUserRegistry.isRevoked(userId)) {
+                log.error("비활성화된 회원의 토큰입니다.");
+                return null;
+            }
+            principal = new JwtPrincipal(userId, ((Collection<?>) claims.get(ROLES)).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.toList()));
+        } else {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            principal = new JwtPrincipal(userId, userDetails.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toList()));
+        }
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    // 토큰의 만료 시간 (토큰 폐기 목록 정리용)
+    public Date getExpiration(String token) {
+        return parseClaims(token).getExpiration();
+    }
+
+    // 만료된 access token 에서 회원 번호(subject)를 가져옴 (토큰 재발급용)
+    public Long getUserPk(String token) {
+        try {
+            return Long.parseLong(parseClaims(token).getSubject());
+        } catch (NumberFormatException e) {
+            // subject 가 없는 토큰 (access token 자리에 refresh token 을 보낸 경우 등)
+            throw new CAccessTokenException();
+        }
     }
 
     // HTTP Request 의 Header 에서 Token Parsing -> "X-AUTH-TOKEN: jwt"
@@ -98,10 +171,14 @@ public class JwtProvider {
 
     // jwt 의 유효성 및 만료 일자 확인
     public boolean validationToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    // 서명과 만료 일자를 검증하고 claims 를 반환 (유효하지 않다면 null)
+    private Claims verifyClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (SecurityException | SignatureException | MalformedJwtException e) {
             log.error("잘못된 Jwt 서명입니다.");
         } catch (ExpiredJwtException e) {
             log.error("만료된 토큰입니다.");
@@ -110,6 +187,6 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.error("잘못된 토큰입니다.");
         }
-        return false;
+        return null;
     }
 }
@@ -0,0 +1,64 @@
+package com.june.swu.domain.token.config;
+
+import com.june.swu.global.common.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된(로그아웃, 강제 폐기) access token 목록
+ *
+ * 요청마다 DB를 조회하지 않도록 메모리에 둡니다.
+ * Bloom filter 가 "폐기되지 않음"이라고 답하면 바로 통과시키고, "있을 수도 있음"일 때만 정확한 목록(토큰 해시 -> 만료 시각)을 확인합니다.
+ * Bloom filter 는 값을 지울 수 없으므로, RevokedTokenService 가 주기적으로 만료된 토큰을 뺀 나머지로 새로 만들어 교체합니다.
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 1_024;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();    // 토큰 해시 -> 만료 시각(ms)
+    private volatile BloomFilter filter = BloomFilter.create(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+
+    /**
+     * @param tokenHash TokenHash.sha256(token)
+     * @return
+     */
+    public boolean isRevoked(String tokenHash) {
+        if (!filter.mightContain(tokenHash)) {
+            return false;   // 대부분의 요청은 여기서 끝남
+        }
+        return revoked.containsKey(tokenHash);
+    }
+
+    public synchronized void revoke(String tokenHash, long expiredAtMillis) {
+        revoked.put(tokenHash, expiredAtMillis);
+        filter.put(tokenHash);
+    }
+
+    /**
+     * 목록 재구성
+     *
+     * 다른 서버에서 폐기된 토큰(DB)을 합치고, 만료된 토큰을 제거한 뒤 남은 토큰으로 Bloom filter 를 새로 만듭니다.
+     * 남은 토큰 수의 두 배를 기준으로 크기를 정하므로, 다음 재구성 전까지 토큰이 늘어나도 오탐률이 크게 오르지 않습니다.
+     *
+     * @param persisted DB에 저장된 만료 전 폐기 토큰 (토큰 해시 -> 만료 시각(ms))
+     * @param now
+     */
+    public synchronized void rebuild(Map<String, Long> persisted, long now) {
+        revoked.putAll(persisted);
+        revoked.values().removeIf(expiredAt -> expiredAt <= now);
+
+        BloomFilter rebuilt = BloomFilter.create(Math.max(MIN_CAPACITY, revoked.size() * 2L), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        log.debug("[RevokedTokenRegistry] rebuilt with {} tokens", revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,44 @@
+package com.june.swu.domain.token.config;
+
+import com.june.swu.domain.user.event.UserDeactivatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비활성화된 회원 목록
+ *
+ * stateless 인증은 토큰의 claims 만으로 인증정보를 만들기 때문에 회원을 조회하지 않습니다.
+ * 대신 이 목록에 있는 회원의 토큰은 만료 전이라도 인증하지 않습니다.
+ * 서버 시작 시 비활성화된 회원 전체를 적재하고, 이후에는 회원 비활성화 이벤트로 추가합니다.
+ */
+@Slf4j
+@Component
+public class RevokedUserRegistry {
+    private final Set<Long> revokedUserIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready = false;
+
+    public void load(Collection<Long> userIds) {
+        revokedUserIds.addAll(userIds);
+        ready = true;
+        log.info("[RevokedUserRegistry] {} users loaded", revokedUserIds.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isRevoked(Long userId) {
+        return revokedUserIds.contains(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeactivated(UserDeactivatedEvent event) {
+        revokedUserIds.add(event.getUserId());
+    }
+}
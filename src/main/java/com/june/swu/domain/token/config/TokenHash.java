@@ -0,0 +1,23 @@
+package com.june.swu.domain.token.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 메모리, DB에 보관하는 토큰의 SHA-256 해시
+ */
+public final class TokenHash {
+    private TokenHash() {
+    }
+
+    public static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);   // 모든 JVM 이 SHA-256 을 지원해야 하므로 발생하지 않음
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.june.swu.domain.token.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증된 토큰 캐시
+ *
+ * 같은 access token 이 만료 전까지 여러 번 사용되므로, 서명 검증을 통과한 claims 를 토큰의 SHA-256 해시를 키로 보관합니다.
+ * (토큰 원문은 메모리에 남기지 않음)
+ * 항목마다 토큰의 만료 시간(exp)에 맞춰 만료되므로 만료된 토큰이 캐시로 인증되는 일은 없으며, 크기 제한을 넘으면 W-TinyLFU 정책으로 제거됩니다.
+ * 검증에 실패한 토큰은 캐싱하지 않습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Cache<String, Claims> cache;  // 크기가 0 이면 캐시를 사용하지 않음 (null)
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${swu.jwt.verified-cache-size:10000}") long maximumSize) {
+        if (maximumSize <= 0) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");   // cache.gets(hit/miss)로 적중률 확인
+    }
+
+    /**
+     * 캐시에 검증된 claims 가 있다면 반환하고, 없다면 verifier 로 검증한 뒤 성공한 경우에만 저장합니다.
+     *
+     * @param token
+     * @param tokenHash TokenHash.sha256(token)
+     * @param verifier 검증에 실패하면 null 을 반환
+     * @return
+     */
+    public Claims get(String token, String tokenHash, Function<String, Claims> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+        return cache.get(tokenHash, key -> verifier.apply(token));
+    }
+
+    /**
+     * 항목의 수명을 토큰의 남은 유효 시간으로 정합니다. 조회, 갱신으로 수명이 늘어나지 않습니다.
+     */
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;   // 만료 시간이 없는 토큰은 캐싱하지 않음
+            }
+            return Math.max(TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis()), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -6,9 +6,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Refresh_token")
+@Table(name = "Refresh_token", indexes = {
+        @Index(name = "ux_refresh_token_key", columnList = "token_key", unique = true),   // 회원당 하나, 재발급 시 key 로 조회
+        @Index(name = "ix_refresh_token_expired_at", columnList = "expiredAt")    // 만료된 토큰 정리
+})
 @Getter
 @NoArgsConstructor
 public class RefreshToken extends BaseEntity {  // 추후 expire 시간과 비교하여 만료시켜주기 위해 BaseEntity를 상속하여 time 정보를 받아옴
@@ -23,14 +27,13 @@ public class RefreshToken extends BaseEntity {  // 추후 expire 시간과 비
     @Column(nullable = false)
     private String token;
 
-    public RefreshToken updateToken(String token) {
-        this.token = token;
-        return this;
-    }
+    @Column(nullable = false)
+    private LocalDateTime expiredAt;    // 리프레시 토큰 만료 시간, 지나면 RefreshTokenSweeper 가 삭제
 
     @Builder
-    public RefreshToken(Long key, String token) {
+    public RefreshToken(Long key, String token, LocalDateTime expiredAt) {
         this.key = key;
         this.token = token;
+        this.expiredAt = expiredAt;
     }
 }
\ No newline at end of file
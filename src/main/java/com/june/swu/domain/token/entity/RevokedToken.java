@@ -0,0 +1,35 @@
+package com.june.swu.domain.token.entity;
+
+import com.june.swu.global.common.BaseEntity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "ux_revoked_token_hash", columnList = "tokenHash", unique = true),
+        @Index(name = "ix_revoked_token_expired_at", columnList = "expiredAt")   // 만료된 토큰 정리
+})
+@Getter
+@NoArgsConstructor
+public class RevokedToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 44)
+    private String tokenHash;   // 폐기된 access token 의 SHA-256 해시 (원문은 저장하지 않음)
+
+    @Column(nullable = false)
+    private LocalDateTime expiredAt;    // 토큰 만료 시간, 이후에는 서명 검증에서 거부되므로 목록에서 제거
+
+    @Builder
+    public RevokedToken(String tokenHash, LocalDateTime expiredAt) {
+        this.tokenHash = tokenHash;
+        this.expiredAt = expiredAt;
+    }
+}
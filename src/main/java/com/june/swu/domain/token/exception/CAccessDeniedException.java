@@ -1,6 +1,8 @@
 package com.june.swu.domain.token.exception;
 
-public class CAccessDeniedException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CAccessDeniedException extends CStacklessException {
     public CAccessDeniedException() {
     }
 
@@ -1,6 +1,8 @@
 package com.june.swu.domain.token.exception;
 
-public class CAccessTokenException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CAccessTokenException extends CStacklessException {
     public CAccessTokenException() {
         super();
     }
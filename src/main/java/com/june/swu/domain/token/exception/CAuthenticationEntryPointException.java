@@ -1,6 +1,8 @@
 package com.june.swu.domain.token.exception;
 
-public class CAuthenticationEntryPointException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CAuthenticationEntryPointException extends CStacklessException {
     public CAuthenticationEntryPointException() {
         super();
     }
@@ -1,6 +1,8 @@
 package com.june.swu.domain.token.exception;
 
-public class CExpiredAccessTokenException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CExpiredAccessTokenException extends CStacklessException {
     public CExpiredAccessTokenException() {
         super();
     }
@@ -1,6 +1,8 @@
 package com.june.swu.domain.token.exception;
 
-public class CRefreshTokenException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CRefreshTokenException extends CStacklessException {
     public CRefreshTokenException() {
         super();
     }
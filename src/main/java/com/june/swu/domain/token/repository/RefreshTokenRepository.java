@@ -2,11 +2,40 @@ package com.june.swu.domain.token.repository;
 
 import com.june.swu.domain.token.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     Optional<RefreshToken> findByKey(Long key);
-}
 
+    // 로그인 시 회원의 리프레시 토큰을 한 번의 쿼리로 저장 (없으면 insert, 있으면 교체)
+    @Modifying
+    @Query(value = "insert into refresh_token (token_key, token, expired_at, created_date, modified_date) " +
+            "values (:key, :token, :expiredAt, :now, :now) " +
+            "on conflict (token_key) do update set token = excluded.token, expired_at = excluded.expired_at, " +
+            "modified_date = excluded.modified_date", nativeQuery = true)
+    int upsertToken(@Param("key") Long key, @Param("token") String token,
+                    @Param("expiredAt") LocalDateTime expiredAt, @Param("now") LocalDateTime now);
+
+    // 재발급 시 저장된 토큰과 일치하고 만료되지 않았을 때만 새 토큰으로 교체 (조회 후 저장 대신 한 번의 update)
+    @Modifying
+    @Query("update RefreshToken r set r.token = :newToken, r.expiredAt = :expiredAt, r.modifiedDate = :now " +
+            "where r.key = :key and r.token = :oldToken and r.expiredAt > :now")
+    int rotateToken(@Param("key") Long key, @Param("oldToken") String oldToken, @Param("newToken") String newToken,
+                    @Param("expiredAt") LocalDateTime expiredAt, @Param("now") LocalDateTime now);
+
+    // 만료된 토큰을 최대 limit 건 삭제 (한 번에 지우는 양을 제한하여 잠금과 트랜잭션 크기를 작게 유지)
+    @Modifying
+    @Query(value = "delete from refresh_token where id in " +
+            "(select id from refresh_token where expired_at <= :now limit :limit)", nativeQuery = true)
+    int deleteExpiredTokens(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.key = :key")
+    int deleteByTokenKey(@Param("key") Long key);
+}
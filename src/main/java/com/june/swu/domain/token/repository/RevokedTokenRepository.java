@@ -0,0 +1,29 @@
+package com.june.swu.domain.token.repository;
+
+import com.june.swu.domain.token.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    @Query("select r from RevokedToken r where r.expiredAt > :now")
+    List<RevokedToken> findUnexpiredTokens(@Param("now") LocalDateTime now);
+
+    // 이미 폐기된 토큰이라면 무시
+    @Modifying
+    @Query(value = "insert into revoked_token (token_hash, expired_at, created_date, modified_date) " +
+            "values (:tokenHash, :expiredAt, :now, :now) on conflict (token_hash) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenHash") String tokenHash, @Param("expiredAt") LocalDateTime expiredAt,
+                       @Param("now") LocalDateTime now);
+
+    // 만료된 토큰을 최대 limit 건 삭제
+    @Modifying
+    @Query(value = "delete from revoked_token where id in " +
+            "(select id from revoked_token where expired_at <= :now limit :limit)", nativeQuery = true)
+    int deleteExpiredTokens(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
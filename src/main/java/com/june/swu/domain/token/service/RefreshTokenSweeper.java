@@ -0,0 +1,46 @@
+package com.june.swu.domain.token.service;
+
+import com.june.swu.domain.token.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 리프레시 토큰 정리
+ *
+ * 주기적으로 만료 시간이 지난 리프레시 토큰을 BATCH_SIZE 건씩 나누어 삭제합니다.
+ * 묶음마다 트랜잭션을 따로 커밋하여 한 번에 많은 행을 잠그지 않으며, 한 주기에 지우는 양도 MAX_BATCHES 로 제한합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RefreshTokenSweeper {
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MAX_BATCHES = 100;    // 한 주기에 최대 10만 건, 남은 토큰은 다음 주기에 삭제
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void sweepExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            Integer deleted = transactionTemplate.execute(
+                    status -> refreshTokenRepository.deleteExpiredTokens(now, BATCH_SIZE));
+            total += deleted == null ? 0 : deleted;
+            if (deleted == null || deleted < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("[RefreshTokenSweeper] {} expired refresh tokens deleted", total);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.june.swu.domain.token.service;
+
+import com.june.swu.domain.token.config.RevokedTokenRegistry;
+import com.june.swu.domain.token.config.TokenHash;
+import com.june.swu.domain.token.entity.RevokedToken;
+import com.june.swu.domain.token.repository.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * access token 폐기
+ *
+ * 폐기한 토큰은 DB에 저장하여 재시작, 다른 서버에서도 유지되도록 하고, 인증 시에는 메모리의 RevokedTokenRegistry 만 확인합니다.
+ * REBUILD_MILLIS 마다 DB의 목록을 합쳐 Bloom filter 를 다시 만들고, 만료된 토큰은 메모리와 DB에서 제거합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RevokedTokenService {
+    private static final long REBUILD_MILLIS = 60 * 1000L;
+    private static final int DELETE_BATCH_SIZE = 1_000;
+    private static final int MAX_DELETE_BATCHES = 100;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 토큰 폐기
+     *
+     * 이 서버에는 즉시, 다른 서버에는 다음 재구성 때 반영됩니다.
+     *
+     * @param token
+     * @param expiredAt 토큰 만료 시간
+     */
+    @Transactional
+    public void revoke(String token, LocalDateTime expiredAt) {
+        String tokenHash = TokenHash.sha256(token);
+        revokedTokenRepository.insertIfAbsent(tokenHash, expiredAt, LocalDateTime.now());
+        revokedTokenRegistry.revoke(tokenHash, toEpochMillis(expiredAt));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedTokens() {
+        rebuild();
+    }
+
+    /**
+     * 폐기 목록 재구성 및 만료된 토큰 정리
+     */
+    @Scheduled(fixedDelay = REBUILD_MILLIS, initialDelay = REBUILD_MILLIS)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Map<String, Long> persisted = revokedTokenRepository.findUnexpiredTokens(now).stream()
+                    .collect(Collectors.toMap(RevokedToken::getTokenHash, token -> toEpochMillis(token.getExpiredAt())));
+            revokedTokenRegistry.rebuild(persisted, toEpochMillis(now));
+        } catch (RuntimeException e) {
+            log.error("폐기 토큰 목록 재구성에 실패하였습니다.", e);
+            return;
+        }
+
+        for (int batch = 0; batch < MAX_DELETE_BATCHES; batch++) {
+            Integer deleted = transactionTemplate.execute(
+                    status -> revokedTokenRepository.deleteExpiredTokens(now, DELETE_BATCH_SIZE));
+            if (deleted == null || deleted < DELETE_BATCH_SIZE) {
+                break;
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,19 +1,25 @@
 package com.june.swu.domain.user.controller;
 
+import com.june.swu.domain.token.config.JwtPrincipal;
 import com.june.swu.domain.token.dto.TokenDto;
 import com.june.swu.domain.token.dto.TokenRequestDto;
 import com.june.swu.domain.user.dto.request.UserLoginRequestDto;
 import com.june.swu.domain.user.dto.request.UserSignupRequestDto;
 import com.june.swu.domain.user.service.SignService;
+import com.june.swu.global.common.response.model.CommonResult;
 import com.june.swu.global.common.response.model.SingleResult;
 import com.june.swu.global.common.response.service.ResponseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -55,4 +61,19 @@ public class SignController {
             @RequestBody TokenRequestDto tokenRequestDto) {
         return responseService.getSingleResult(signService.reissue(tokenRequestDto));
     }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "로그아웃", description = "사용 중인 액세스 토큰을 폐기하고 리프레시 토큰을 삭제합니다.")
+    @PostMapping("/logout")
+    public CommonResult logout(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestHeader("X-AUTH-TOKEN") String accessToken) {
+        signService.logout(principal, accessToken);
+        return responseService.getSuccessResult();
+    }
 }
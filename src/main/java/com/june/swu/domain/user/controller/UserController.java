@@ -1,8 +1,12 @@
 package com.june.swu.domain.user.controller;
 
+import com.june.swu.domain.token.config.JwtPrincipal;
 import com.june.swu.domain.user.dto.request.UserRequestDto;
 import com.june.swu.domain.user.dto.response.UserResponseDto;
 import com.june.swu.domain.user.service.UserService;
+import com.june.swu.global.common.export.NdjsonExporter;
+import com.june.swu.global.common.pagination.CursorSlice;
+import com.june.swu.global.common.response.model.CommonResult;
 import com.june.swu.global.common.response.model.ListResult;
 import com.june.swu.global.common.response.model.SingleResult;
 import com.june.swu.global.common.response.service.ResponseService;
@@ -12,15 +16,19 @@ import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "User")
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api")
 public class UserController {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserService userService;
     private final ResponseService responseService;
 
@@ -34,7 +42,7 @@ public class UserController {
     @GetMapping("/user/id/{userId}")
     public SingleResult<UserResponseDto> findUserById(
             @Parameter(description = "회원 ID", required = true) @PathVariable Long userId,
-            @Parameter(description = "언어", example = "ko") @RequestParam String lang) {
+            @Parameter(description = "언어 (없으면 Accept-Language 헤더)", example = "ko") @RequestParam(required = false) String lang) {
         return responseService.getSingleResult(userService.findById(userId));
     }
 
@@ -48,7 +56,7 @@ public class UserController {
     @GetMapping("/user/email/{email}")
     public SingleResult<UserResponseDto> findUserByEmail(
             @Parameter(description = "회원 이메일", required = true) @PathVariable String email,
-            @Parameter(description = "언어", example = "ko") @RequestParam String lang) {
+            @Parameter(description = "언어 (없으면 Accept-Language 헤더)", example = "ko") @RequestParam(required = false) String lang) {
         return responseService.getSingleResult(userService.findByEmail(email));
     }
 
@@ -58,10 +66,28 @@ public class UserController {
             required = true,
             schema = @Schema(type = "string"),
             in = ParameterIn.HEADER)
-    @Operation(summary = "회원 목록 조회", description = "모든 회원을 조회합니다.")
+    @Operation(summary = "회원 목록 조회", description = "최근 가입한 회원부터 size 명씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 after 로 전달합니다.")
     @GetMapping("/users")
-    public ListResult<UserResponseDto> findAllUser() {
-        return responseService.getListResult(userService.findAllUser());
+    public ListResult<UserResponseDto> getUserListByPagination(
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSlice<UserResponseDto> userList =
+                userService.getUserListWithPagination(after, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return responseService.getListResult(userList);
+    }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "회원 전체 내보내기", description = "전체 회원을 한 줄에 한 명씩 NDJSON 으로 내보냅니다. (관리자 전용)")
+    @GetMapping(value = "/users/export", produces = NdjsonExporter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonExporter.MEDIA_TYPE))
+                .body(userService.exportUsers());
     }
 
     @Parameter(
@@ -77,4 +103,17 @@ public class UserController {
         UserRequestDto userRequestDto = UserRequestDto.builder().nickName(nickName).build();
         return responseService.getSingleResult(userService.update(userId, userRequestDto));
     }
+
+    @Parameter(
+            name = "X-AUTH-TOKEN",
+            description = "로그인 성공 후 AccessToken",
+            required = true,
+            schema = @Schema(type = "string"),
+            in = ParameterIn.HEADER)
+    @Operation(summary = "회원 탈퇴", description = "회원을 비활성화합니다. 이미 발급된 토큰도 더 이상 사용할 수 없습니다.")
+    @DeleteMapping("/user")
+    public CommonResult deactivate(@AuthenticationPrincipal JwtPrincipal principal) {
+        userService.deactivate(principal.getUserId());
+        return responseService.getSuccessResult();
+    }
 }
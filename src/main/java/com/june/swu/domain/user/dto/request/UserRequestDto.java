@@ -17,7 +17,7 @@ public class UserRequestDto {
 
     public User toEntity() {
         return User.builder()
-                .email(email)
+                .email(User.normalizeEmail(email))
                 .name(name)
                 .nickName(nickName)
                 .build();
@@ -1,11 +1,11 @@
 package com.june.swu.domain.user.dto.request;
 
+import com.june.swu.domain.user.entity.Role;
 import com.june.swu.domain.user.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Collections;
 
@@ -19,13 +19,13 @@ public class UserSignupRequestDto {
     private String name;
     private String nickName;
 
-    public User toEntity(PasswordEncoder passwordEncoder) { // password를 encoding하여 엔티티 생성
+    public User toEntity(String encodedPassword) { // encoding 된 password 로 엔티티 생성
         return User.builder()
-                .email(email)
-                .password(passwordEncoder.encode(password))
+                .email(User.normalizeEmail(email))
+                .password(encodedPassword)
                 .nickName(nickName)
                 .name(name)
-                .roles(Collections.singletonList("ROLE_USER"))
+                .roles(Collections.singletonList(Role.USER.getAuthority()))
                 .build();
     }
 }
@@ -0,0 +1,95 @@
+package com.june.swu.domain.user.entity;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원 권한
+ *
+ * 회원의 권한 목록은 users.role_mask 컬럼에 비트 마스크로 저장하여 회원과 같은 행에서 읽습니다.
+ * 비트 값은 저장된 데이터의 의미이므로 한 번 정한 값은 바꾸지 않습니다.
+ * 가능한 모든 조합의 권한 이름 목록과 GrantedAuthority 목록을 미리 만들어 두고 공유합니다. (불변)
+ */
+public enum Role {
+    USER(1, "ROLE_USER"),
+    ADMIN(1 << 1, "ROLE_ADMIN");
+
+    private static final List<List<String>> NAMES_BY_MASK = new ArrayList<>();
+    private static final List<List<GrantedAuthority>> AUTHORITIES_BY_MASK = new ArrayList<>();
+
+    static {
+        int maskCount = 1 << values().length;
+        for (int mask = 0; mask < maskCount; mask++) {
+            List<String> names = new ArrayList<>();
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (Role role : values()) {
+                if ((mask & role.bit) != 0) {
+                    names.add(role.authority);
+                    authorities.add(role.grantedAuthority);
+                }
+            }
+            NAMES_BY_MASK.add(List.copyOf(names));
+            AUTHORITIES_BY_MASK.add(List.copyOf(authorities));
+        }
+    }
+
+    private final int bit;
+    private final String authority;
+    private final GrantedAuthority grantedAuthority;
+
+    Role(int bit, String authority) {
+        this.bit = bit;
+        this.authority = authority;
+        this.grantedAuthority = new SimpleGrantedAuthority(authority);
+    }
+
+    public String getAuthority() {
+        return authority;
+    }
+
+    public static Role fromAuthority(String authority) {
+        for (Role role : values()) {
+            if (role.authority.equals(authority)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("unknown role: " + authority);
+    }
+
+    public static int toMask(Collection<String> authorities) {
+        int mask = 0;
+        for (String authority : authorities) {
+            mask |= fromAuthority(authority).bit;
+        }
+        return mask;
+    }
+
+    /**
+     * 알 수 없는 권한은 건너뛰고 비트 마스크를 만듭니다.
+     * 토큰의 roles claim 처럼 이전에 발급된 값을 해석할 때 사용합니다. (권한 이름이 바뀌어도 인증 필터에서 예외가 나지 않음)
+     */
+    public static int toKnownMask(Collection<String> authorities) {
+        int mask = 0;
+        for (String authority : authorities) {
+            for (Role role : values()) {
+                if (role.authority.equals(authority)) {
+                    mask |= role.bit;
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static List<String> names(int mask) {
+        return NAMES_BY_MASK.get(mask);
+    }
+
+    public static List<GrantedAuthority> authorities(int mask) {
+        return AUTHORITIES_BY_MASK.get(mask);
+    }
+}
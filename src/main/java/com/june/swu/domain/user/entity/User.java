@@ -2,19 +2,18 @@ package com.june.swu.domain.user.entity;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.june.swu.global.common.BaseEntity;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import javax.persistence.*;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @Builder
 @Getter
@@ -23,7 +22,8 @@ import java.util.stream.Collectors;
 @Entity
 public class User extends BaseEntity implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long userId;
 
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)  // Json 결과로 출력하지 않을 값들은 애노테이션 선언으로 read하지 못하게 함
@@ -42,15 +42,37 @@ public class User extends BaseEntity implements UserDetails {
     @Column
     private Boolean isActive;
 
-    @ElementCollection(fetch = FetchType.EAGER) // User 객체의 권한이 담긴 컬렉션 객체를 User 조회시 EAGER로 즉시로딩하지 않는다면, Porxy객체가 담겨서 반환되므로 제대로 "ROLE_USER"를 확인할 수 없다.
-    @Builder.Default
-    private List<String> roles = new ArrayList<>(); // 권한은 회원당 여러개가 정의될 수 있으므로 컬렉션 타입으로 정의
+    // 권한 목록을 Role 비트 마스크로 같은 행에 저장 (별도 테이블 조회 없음), 기존 user_roles 의 권한은 V2 마이그레이션으로 옮김
+    @Getter(AccessLevel.NONE)
+    @Column(nullable = false, columnDefinition = "integer default 1")
+    private int roleMask;
+
+    public static class UserBuilder {
+        public UserBuilder roles(Collection<String> roles) {
+            this.roleMask = Role.toMask(roles);
+            return this;
+        }
+    }
 
     @PrePersist
     public void prePersist() {
         this.isActive = this.isActive == null ? true : this.isActive;
     }
 
+    /**
+     * 이메일 정규화 (앞뒤 공백 제거, 소문자), 저장과 조회 모두 정규화된 값을 사용합니다.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 권한 이름 목록 (공유되는 불변 목록)
+     */
+    public List<String> getRoles() {
+        return Role.names(roleMask);
+    }
+
     public void updateNickName(String nickName) {
         this.nickName = nickName;
     }
@@ -64,7 +86,7 @@ public class User extends BaseEntity implements UserDetails {
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+        return Role.authorities(roleMask);
     }
 
     @Override
@@ -0,0 +1,15 @@
+package com.june.swu.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원이 비활성화(탈퇴)되었을 때 발행되는 이벤트
+ *
+ * 트랜잭션 커밋 이후 이미 발급된 토큰으로 더 이상 인증되지 않도록 하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserDeactivatedEvent {
+    private final Long userId;
+}
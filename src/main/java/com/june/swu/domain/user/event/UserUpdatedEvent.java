@@ -0,0 +1,15 @@
+package com.june.swu.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 정보(닉네임, 비밀번호)가 변경되었을 때 발행되는 이벤트
+ *
+ * 트랜잭션 커밋 이후 캐시된 회원 정보를 제거하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserUpdatedEvent {
+    private final Long userId;
+}
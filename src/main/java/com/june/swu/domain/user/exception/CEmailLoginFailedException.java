@@ -1,6 +1,8 @@
 package com.june.swu.domain.user.exception;
 
-public class CEmailLoginFailedException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CEmailLoginFailedException extends CStacklessException {
     public CEmailLoginFailedException() {
         super();
     }
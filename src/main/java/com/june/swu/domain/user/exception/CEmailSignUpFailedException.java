@@ -1,6 +1,8 @@
 package com.june.swu.domain.user.exception;
 
-public class CEmailSignUpFailedException extends RuntimeException{
+import com.june.swu.global.exception.CStacklessException;
+
+public class CEmailSignUpFailedException extends CStacklessException{
     public CEmailSignUpFailedException(String message, Throwable cause) {
         super(message, cause);
     }
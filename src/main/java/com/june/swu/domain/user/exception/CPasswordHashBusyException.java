@@ -0,0 +1,17 @@
+package com.june.swu.domain.user.exception;
+
+import com.june.swu.global.exception.CStacklessException;
+
+public class CPasswordHashBusyException extends CStacklessException {
+    public CPasswordHashBusyException() {
+        super();
+    }
+
+    public CPasswordHashBusyException(String message) {
+        super(message);
+    }
+
+    public CPasswordHashBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,8 @@
 package com.june.swu.domain.user.exception;
 
-public class CUserNotFoundException extends RuntimeException {
+import com.june.swu.global.exception.CStacklessException;
+
+public class CUserNotFoundException extends CStacklessException {
 
     public CUserNotFoundException(String message, Throwable cause) {
         super(message, cause);
@@ -0,0 +1,84 @@
+package com.june.swu.domain.user.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.june.swu.domain.user.entity.User;
+import com.june.swu.domain.user.event.UserDeactivatedEvent;
+import com.june.swu.domain.user.event.UserUpdatedEvent;
+import com.june.swu.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 활성 회원 캐시
+ *
+ * 회원 번호 -> 회원, 이메일 -> 회원 번호 두 개의 캐시로 구성하며, 회원 정보는 회원 번호 캐시에만 보관합니다.
+ * 조회 전용이므로 캐시된 회원은 영속성 컨텍스트에 속하지 않으며, 수정할 때는 반드시 repository 로 다시 조회해야 합니다.
+ * 회원 정보가 바뀌면 커밋 이후 이벤트로 회원 번호 캐시에서 제거하고, 놓친 변경에 대비해 TTL 이후에는 다시 조회합니다.
+ * (이메일은 바뀌지 않으므로 이메일 캐시는 남겨두며, 탈퇴한 회원은 회원 번호로 다시 조회할 때 걸러짐)
+ * 존재하지 않는 회원은 캐싱하지 않습니다.
+ */
+@Component
+public class UserCache {
+    private final UserRepository userRepository;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> userIdsByEmail;
+
+    public UserCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                     @Value("${swu.user.cache-size:10000}") long maximumSize,
+                     @Value("${swu.user.cache-ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets(hit/miss), cache.load.duration(조회 시간) 등 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "user.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByEmail, "user.by-email");
+    }
+
+    public Optional<User> findById(Long userId) {
+        return Optional.ofNullable(usersById.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * @param email 정규화된 이메일
+     * @return
+     */
+    public Optional<User> findByEmail(String email) {
+        // 이메일 캐시는 회원 번호만 적재하고, 회원은 항상 회원 번호 캐시의 적재로만 저장
+        // (다른 캐시의 적재 밖에서 put 하면, 변경 전에 읽은 회원이 커밋 이후 무효화보다 늦게 저장되어 TTL 동안 남을 수 있음)
+        Long userId = userIdsByEmail.get(email, key -> userRepository.findIdByEmail(key).orElse(null));
+        return userId == null ? Optional.empty() : findById(userId);
+    }
+
+    public void invalidate(Long userId) {
+        usersById.invalidate(userId);
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeactivated(UserDeactivatedEvent event) {
+        invalidate(event.getUserId());
+    }
+}
@@ -0,0 +1,92 @@
+package com.june.swu.domain.user.index;
+
+import com.june.swu.global.common.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일(정규화된 값)의 Bloom filter
+ *
+ * "가입된 적 없는 이메일"을 DB 조회 없이 걸러냅니다.
+ * 회원가입은 중복 확인 조회를 건너뛰고 바로 insert 하며, "있을 수도 있음"인 경우에만 DB 를 확인합니다.
+ * 이 서버에서 가입한 이메일만 바로 반영되므로 "없음"을 확정 답으로 쓰면 안 됩니다.
+ * 회원가입은 unique 제약이 최종 판단을 하므로 다른 서버에서 가입한 이메일을 놓쳐도 비밀번호 해시 한 번만 낭비되며,
+ * 로그인에는 사용하지 않습니다.
+ * 탈퇴 회원도 이메일을 그대로 점유하므로 값을 지울 일이 없고, 예상 크기를 넘으면 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class UserEmailIndex {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 1 << 16;
+
+    private volatile BloomFilter filter = BloomFilter.create(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+    private volatile long capacity = MIN_CAPACITY;
+    private volatile boolean ready = false;
+    private final AtomicLong size = new AtomicLong();
+    private Set<String> addedDuringRebuild;     // 재구성용 조회 이후에 가입한 이메일
+
+    /**
+     * 재구성 시작, 이후 load() 전까지 추가되는 이메일을 따로 모아 새 filter 에도 넣습니다.
+     */
+    public synchronized void beginRebuild() {
+        addedDuringRebuild = new HashSet<>();
+    }
+
+    /**
+     * 인덱스 적재
+     *
+     * 이메일을 목록으로 모으지 않고 조회 결과를 받는 대로 새 filter 에 넣으며, 적재하는 동안에도 회원가입(put)을 막지 않습니다.
+     *
+     * @param expectedCount 가입된 회원 수 (filter 크기 결정)
+     * @param emails 가입된 전체 이메일 (beginRebuild() 이후에 조회한 값)
+     */
+    public void load(long expectedCount, Stream<String> emails) {
+        long expected = Math.max(MIN_CAPACITY, expectedCount * 2L);
+        BloomFilter rebuilt = BloomFilter.create(expected, FALSE_POSITIVE_RATE);
+        long[] loaded = {0};
+        emails.forEach(email -> {
+            rebuilt.put(email);
+            loaded[0]++;
+        });
+
+        synchronized (this) {
+            Set<String> added = addedDuringRebuild == null ? Set.of() : addedDuringRebuild;
+            added.forEach(rebuilt::put);
+
+            filter = rebuilt;
+            capacity = expected;
+            size.set(loaded[0] + added.size());
+            addedDuringRebuild = null;
+            ready = true;
+        }
+        log.info("[UserEmailIndex] {} emails loaded", size.get());
+    }
+
+    public synchronized void put(String email) {
+        filter.put(email);
+        size.incrementAndGet();
+        if (addedDuringRebuild != null) {
+            addedDuringRebuild.add(email);
+        }
+    }
+
+    /**
+     * false 라면 가입된 적 없는 이메일입니다. 적재 전에는 항상 true 를 반환합니다.
+     */
+    public boolean mightExist(String email) {
+        return !ready || filter.mightContain(email);
+    }
+
+    /**
+     * 예상 크기를 넘어 오탐률이 올라간 경우
+     */
+    public boolean isOverCapacity() {
+        return size.get() > capacity;
+    }
+}
@@ -1,17 +1,58 @@
 package com.june.swu.domain.user.repository;
 
 import com.june.swu.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     @Query("select u from User u where u.userId = :id and u.isActive = true")
     Optional<User> findById(@Param("id") Long id);
+    // email 은 정규화된 값으로 저장되므로 email 의 unique 인덱스로 한 건만 찾은 뒤 활성 여부를 확인
     @Query("select u from User u where u.email = :email and u.isActive = true")
     Optional<User> findByEmail(@Param("email") String email);
+
+    @Query("select u.userId from User u where u.email = :email and u.isActive = true")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    // 탈퇴 회원을 포함하여 이메일 사용 여부 확인 (unique 제약과 같은 기준)
+    @Query("select count(u) > 0 from User u where u.email = :email")
+    boolean existsByEmail(@Param("email") String email);
+
+    // 전체 이메일을 목록으로 모으지 않고 커서로 읽음 (트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
+
+    // 정규화하지 못하고 남은 이전 이메일(대소문자만 다른 계정이 있는 경우)을 정규화된 값으로 조회 (V3 마이그레이션의 부분 인덱스 사용)
+    @Query(value = "select * from users where email <> lower(trim(email)) and lower(trim(email)) = :email and is_active = true",
+            nativeQuery = true)
+    List<User> findByLegacyEmail(@Param("email") String email);
+
+    @Query(value = "select count(*) > 0 from users where email <> lower(trim(email)) and lower(trim(email)) = :email",
+            nativeQuery = true)
+    boolean existsByLegacyEmail(@Param("email") String email);
+
+    @Query("select u from User u where u.userId < :after order by u.userId desc")
+    Slice<User> findUsersWithPagination(@Param("after") Long after, Pageable pageable);
+
+    @Query("select u.userId from User u where u.isActive = false")
+    List<Long> findInactiveUserIds();
+
+    // 비밀번호 재해시 (로그인 시 해시 비용이 바뀐 경우)
+    @Modifying
+    @Query("update User u set u.password = :password, u.modifiedDate = :now where u.userId = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password, @Param("now") LocalDateTime now);
 }
@@ -1,13 +1,12 @@
 package com.june.swu.domain.user.service;
 
 import com.june.swu.domain.user.exception.CUserNotFoundException;
-import com.june.swu.domain.user.repository.UserRepository;
+import com.june.swu.domain.user.index.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 스프링 시큐리티에서 토큰에 포함된 유저 정보로 유저를 조회하는 것을 UserDetailsService인터페이스에 만들어놨는데
@@ -16,11 +15,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String userPk) throws UsernameNotFoundException {
-        return userRepository.findById(Long.parseLong(userPk)).orElseThrow(CUserNotFoundException::new);
+        return userCache.findById(Long.parseLong(userPk)).orElseThrow(CUserNotFoundException::new);
     }
 }
@@ -0,0 +1,125 @@
+package com.june.swu.domain.user.service;
+
+import com.june.swu.domain.user.exception.CPasswordHashBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * BCrypt 해시와 비교는 요청 하나에 수십 ms 의 CPU 를 사용하므로, 요청 스레드에서 바로 실행하면 로그인이 몰릴 때 모든 워커가 점유됩니다.
+ * 정해진 수의 스레드와 크기가 제한된 대기열에서만 실행하여 동시에 사용하는 CPU 를 제한하고,
+ * 대기열이 가득 차거나 대기 시간이 길어지면 곧바로 CPasswordHashBusyException 으로 거절합니다.
+ */
+@Slf4j
+@Service
+public class PasswordHashService {
+    private static final long WAIT_TIMEOUT_MILLIS = 3_000;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                               @Value("${swu.password.hash-threads:0}") int threads,
+                               @Value("${swu.password.hash-queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.hashExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .tag("operation", "encode")
+                .description("비밀번호 해시 실행 시간")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hash")
+                .tag("operation", "match")
+                .description("비밀번호 해시 실행 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("대기열 초과, 대기 시간 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue", hashExecutor, executor -> executor.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", hashExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 실행 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 설정된 해시 방식, 비용(BCrypt strength)보다 약한 해시인지 확인합니다. (해시 계산 없이 저장된 값만 확인)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new CPasswordHashBusyException();
+        }
+
+        try {
+            return future.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업이라면 대기열에서 빠지도록 취소
+            future.cancel(false);
+            rejectedCounter.increment();
+            throw new CPasswordHashBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new CPasswordHashBusyException("interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
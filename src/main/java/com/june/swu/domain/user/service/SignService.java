@@ -1,24 +1,33 @@
 package com.june.swu.domain.user.service;
 
+import com.june.swu.domain.token.config.JwtPrincipal;
 import com.june.swu.domain.token.config.JwtProvider;
 import com.june.swu.domain.token.dto.TokenDto;
 import com.june.swu.domain.token.dto.TokenRequestDto;
-import com.june.swu.domain.token.entity.RefreshToken;
 import com.june.swu.domain.token.exception.CRefreshTokenException;
 import com.june.swu.domain.token.repository.RefreshTokenRepository;
+import com.june.swu.domain.token.service.RevokedTokenService;
 import com.june.swu.domain.user.dto.request.UserLoginRequestDto;
 import com.june.swu.domain.user.dto.request.UserSignupRequestDto;
 import com.june.swu.domain.user.entity.User;
+import com.june.swu.domain.user.event.UserUpdatedEvent;
 import com.june.swu.domain.user.exception.CEmailLoginFailedException;
 import com.june.swu.domain.user.exception.CEmailSignUpFailedException;
 import com.june.swu.domain.user.exception.CUserNotFoundException;
+import com.june.swu.domain.user.index.UserEmailIndex;
 import com.june.swu.domain.user.repository.UserRepository;
+import com.june.swu.global.ratelimit.RateLimitService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,32 +35,86 @@ import org.springframework.transaction.annotation.Transactional;
 public class SignService {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
     private final JwtProvider jwtProvider;
+    private final RevokedTokenService revokedTokenService;
+    private final TransactionTemplate transactionTemplate;
+    private final RateLimitService rateLimitService;
+    private final UserEmailIndex userEmailIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    /**
+     * 회원가입
+     *
+     * 비밀번호 해시는 전용 실행기에서 수행하며, 해시하는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 처리합니다.
+     *
+     * @param userSignupRequestDto
+     * @return
+     */
     public Long signup(UserSignupRequestDto userSignupRequestDto) {
-        if (userRepository.findByEmail(userSignupRequestDto.getEmail()).isPresent()) {
+        String email = User.normalizeEmail(userSignupRequestDto.getEmail());
+        rateLimitService.checkEmail(email);
+
+        // 이미 사용 중일 수 있는 이메일만 조회하여, 비밀번호를 해시하기 전에 거절
+        if (userEmailIndex.mightExist(email)
+                && (userRepository.existsByEmail(email) || userRepository.existsByLegacyEmail(email))) {
+            throw new CEmailSignUpFailedException();
+        }
+
+        // 중복 확인과 저장 사이에 같은 이메일로 가입하더라도 unique 제약으로 한 건만 저장됨
+        String encodedPassword = passwordHashService.encode(userSignupRequestDto.getPassword());
+        User user;
+        try {
+            user = userRepository.saveAndFlush(userSignupRequestDto.toEntity(encodedPassword));
+        } catch (DataIntegrityViolationException e) {
             throw new CEmailSignUpFailedException();
         }
-        return userRepository.save(userSignupRequestDto.toEntity(passwordEncoder)).getUserId();
+        userEmailIndex.put(email);
+        return user.getUserId();
     }
 
-    @Transactional
+    /**
+     * 로그인
+     *
+     * 비밀번호 비교는 트랜잭션 밖에서 수행하고, 저장된 해시가 현재 설정보다 약하다면 새 설정으로 다시 해시하여 저장합니다.
+     *
+     * @param userLoginRequestDto
+     * @return
+     */
     public TokenDto login(UserLoginRequestDto userLoginRequestDto) {
-        // 회원이 존재하는지 확인
-        User user =
-                userRepository
-                        .findByEmail(userLoginRequestDto.getEmail())
-                        .orElseThrow(CEmailLoginFailedException::new);
+        // 같은 계정에 대한 반복 시도 제한 (해시 비교 전에 확인)
+        String email = User.normalizeEmail(userLoginRequestDto.getEmail());
+        rateLimitService.checkEmail(email);
 
-        // password 일치 여부 확인
-        if (!passwordEncoder.matches(userLoginRequestDto.getPassword(), user.getPassword())) {
-            throw new CEmailLoginFailedException();
-        }
+        // 회원이 존재하는지 확인 (다른 서버에서 가입한 회원도 있으므로 가입 이메일 인덱스가 아닌 DB 로 확인)
+        // 정규화된 이메일로 찾지 못했다면, 대소문자만 다른 계정이 있어 정규화하지 못한 이전 이메일에서 찾음
+        List<User> candidates = userRepository
+                .findByEmail(email)
+                .map(List::of)
+                .orElseGet(() -> userRepository.findByLegacyEmail(email));
 
-        // token 발급
+        // password 일치 여부 확인 (이전 이메일은 여러 계정일 수 있으므로 비밀번호가 맞는 계정으로 로그인)
+        User user = candidates.stream()
+                .filter(candidate -> passwordHashService.matches(userLoginRequestDto.getPassword(), candidate.getPassword()))
+                .findFirst()
+                .orElseThrow(CEmailLoginFailedException::new);
+
+        // 해시 비용이 바뀌었다면 평문 비밀번호를 알고 있는 지금 다시 해시
+        String upgradedPassword = passwordHashService.upgradeEncoding(user.getPassword())
+                ? passwordHashService.encode(userLoginRequestDto.getPassword())
+                : null;
+
+        // token 발급, 리프레시 토큰 저장 (재발급 시 비교)
         TokenDto tokenDto = jwtProvider.createTokenDto(user.getUserId(), user.getRoles(), user.getEmail());
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (upgradedPassword != null) {
+                userRepository.updatePassword(user.getUserId(), upgradedPassword, now);
+                eventPublisher.publishEvent(new UserUpdatedEvent(user.getUserId()));
+            }
+            refreshTokenRepository.upsertToken(
+                    user.getUserId(), tokenDto.getRefreshToken(), now.plus(jwtProvider.getRefreshTokenValidity()), now);
+        });
 
         return tokenDto;
     }
@@ -63,27 +126,43 @@ public class SignService {
             throw new CRefreshTokenException();
         }
 
-        // AccessToken 에서 Username (pk) 가져오기
-        String accessToken = tokenRequestDto.getAccessToken();
-        Authentication authentication = jwtProvider.getAuthentication(accessToken);
+        // 만료된 AccessToken 에서 Username (pk) 가져오기 (회원 조회는 아래에서 한 번만 수행)
+        Long userPk = jwtProvider.getUserPk(tokenRequestDto.getAccessToken());
 
-        // user pk로 유저 검색 / repo 에 저장된 Refresh Token 가져오기
+        // user pk로 유저 검색
         User user =
                 userRepository
-                        .findById(Long.parseLong(authentication.getName()))
+                        .findById(userPk)
                         .orElseThrow(CUserNotFoundException::new);
-        RefreshToken refreshToken =
-                refreshTokenRepository.findByKey(user.getUserId()).orElseThrow(CRefreshTokenException::new);
 
-        // 리프레시 토큰 불일치 에러
-        if (!refreshToken.getToken().equals(tokenRequestDto.getRefreshToken()))
-            throw new CRefreshTokenException();
-
-        // AccessToken, RefreshToken 토큰 재발급, 리프레쉬 토큰 저장
+        // AccessToken, RefreshToken 토큰 재발급
         TokenDto newCreatedToken = jwtProvider.createTokenDto(user.getUserId(), user.getRoles(), user.getEmail());
-        RefreshToken updateRefreshToken = refreshToken.updateToken(newCreatedToken.getRefreshToken());
-        refreshTokenRepository.save(updateRefreshToken);
+
+        // 저장된 리프레시 토큰과 일치할 때만 새 토큰으로 교체 (조회, 비교, 저장을 한 번의 update 로 처리)
+        // 일치하지 않거나 이미 다른 요청이 교체했다면 영향받은 행이 없음
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = refreshTokenRepository.rotateToken(user.getUserId(), tokenRequestDto.getRefreshToken(),
+                newCreatedToken.getRefreshToken(), now.plus(jwtProvider.getRefreshTokenValidity()), now);
+        if (rotated == 0) {
+            throw new CRefreshTokenException();
+        }
 
         return newCreatedToken;
     }
+
+    /**
+     * 로그아웃
+     *
+     * 사용 중인 access token 을 만료 시간까지 폐기 목록에 올리고, 리프레시 토큰을 삭제하여 재발급도 막습니다.
+     *
+     * @param principal
+     * @param accessToken
+     */
+    @Transactional
+    public void logout(JwtPrincipal principal, String accessToken) {
+        LocalDateTime expiredAt = LocalDateTime.ofInstant(
+                jwtProvider.getExpiration(accessToken).toInstant(), ZoneId.systemDefault());
+        revokedTokenService.revoke(accessToken, expiredAt);
+        refreshTokenRepository.deleteByTokenKey(principal.getUserId());
+    }
 }
@@ -1,50 +1,174 @@
 package com.june.swu.domain.user.service;
 
+import com.june.swu.domain.token.config.RevokedUserRegistry;
 import com.june.swu.domain.user.dto.request.UserRequestDto;
 import com.june.swu.domain.user.dto.response.UserResponseDto;
+import com.june.swu.domain.user.entity.Role;
 import com.june.swu.domain.user.entity.User;
+import com.june.swu.domain.user.event.UserDeactivatedEvent;
+import com.june.swu.domain.user.event.UserUpdatedEvent;
 import com.june.swu.domain.user.exception.CUserNotFoundException;
+import com.june.swu.domain.user.index.UserCache;
+import com.june.swu.domain.user.index.UserEmailIndex;
 import com.june.swu.domain.user.repository.UserRepository;
+import com.june.swu.global.common.export.NdjsonExporter;
+import com.june.swu.global.common.pagination.Cursor;
+import com.june.swu.global.common.pagination.CursorSlice;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.sql.Timestamp;
+import java.util.stream.Stream;
 
 @Slf4j
 @AllArgsConstructor
 @Service
 public class UserService {
+    private static final String EXPORT_USERS_SQL = "select user_id, email, name, nick_name, role_mask, is_active, modified_date " +
+            "from users order by user_id";
+
     private UserRepository userRepository;
+    private RevokedUserRegistry revokedUserRegistry;
+    private ApplicationEventPublisher eventPublisher;
+    private UserEmailIndex userEmailIndex;
+    private UserCache userCache;
+    private NdjsonExporter ndjsonExporter;
+    private TransactionTemplate transactionTemplate;
 
-    @Transactional
     public UserResponseDto findById(Long id) {
-        User user = userRepository.findById(id)
+        User user = userCache.findById(id)
                 .orElseThrow(CUserNotFoundException::new);
         return new UserResponseDto(user);
     }
 
-    @Transactional
     public UserResponseDto findByEmail(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = userCache.findByEmail(User.normalizeEmail(email))
                 .orElseThrow(CUserNotFoundException::new);
         return new UserResponseDto(user);
     }
 
-    @Transactional
-    public List<UserResponseDto> findAllUser() {
-        return userRepository.findAll()
-                .stream()
-                .map(UserResponseDto::new)
-                .collect(Collectors.toList());
+    /**
+     * 회원 목록 조회
+     *
+     * 커서(after)를 기준으로 최근 가입한 회원부터 size 명씩 조회합니다.
+     *
+     * @param after
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<UserResponseDto> getUserListWithPagination(String after, int size) {
+        Slice<User> slice = userRepository.findUsersWithPagination(Cursor.decodeId(after), PageRequest.of(0, size));
+        return CursorSlice.of(slice.getContent(), slice.hasNext(), user -> Cursor.encode(user.getUserId()))
+                .map(UserResponseDto::new);
+    }
+
+    /**
+     * 전체 회원 내보내기 (NDJSON)
+     *
+     * 회원 번호 순서로 한 줄에 회원 한 명씩 씁니다. 비밀번호는 내보내지 않습니다.
+     *
+     * @return
+     */
+    public StreamingResponseBody exportUsers() {
+        return ndjsonExporter.export(EXPORT_USERS_SQL, (resultSet, generator) -> {
+            generator.writeNumberField("userId", resultSet.getLong("user_id"));
+            generator.writeStringField("email", resultSet.getString("email"));
+            generator.writeStringField("name", resultSet.getString("name"));
+            generator.writeStringField("nickName", resultSet.getString("nick_name"));
+            generator.writeArrayFieldStart("roles");
+            for (String role : Role.names(resultSet.getInt("role_mask"))) {
+                generator.writeString(role);
+            }
+            generator.writeEndArray();
+            generator.writeBooleanField("isActive", resultSet.getBoolean("is_active"));
+            Timestamp modifiedDate = resultSet.getTimestamp("modified_date");
+            generator.writeStringField("modifiedDate",
+                    modifiedDate == null ? null : modifiedDate.toLocalDateTime().toString());
+        });
     }
 
     @Transactional
     public Long update(Long id, UserRequestDto userRequestDto) {
         User modifiedUser = userRepository.findById(id).orElseThrow(CUserNotFoundException::new);
         modifiedUser.updateNickName(userRequestDto.getNickName());
+        eventPublisher.publishEvent(new UserUpdatedEvent(id));   // 커밋 이후 회원 캐시에서 제거
         return id;
     }
+
+    /**
+     * 회원 비활성화(탈퇴)
+     *
+     * 커밋 이후 비활성화 회원 목록에 추가되어, 이미 발급된 토큰으로도 더 이상 인증되지 않습니다.
+     *
+     * @param id
+     */
+    @Transactional
+    public void deactivate(Long id) {
+        User user = userRepository.findById(id).orElseThrow(CUserNotFoundException::new);
+        user.deleteUser();
+        eventPublisher.publishEvent(new UserDeactivatedEvent(id));
+    }
+
+    /**
+     * 서버가 준비되면 비활성화된 회원 목록을 적재합니다. (적재 전에는 인증 시 회원을 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRevokedUsers() {
+        try {
+            revokedUserRegistry.load(userRepository.findInactiveUserIds());
+        } catch (RuntimeException e) {
+            log.error("비활성화 회원 목록 적재에 실패하였습니다. 인증 시 회원을 조회합니다.", e);
+        }
+    }
+
+    /**
+     * 서버가 준비되면 가입 이메일 인덱스를 적재합니다. (적재 전에는 항상 DB 를 확인)
+     * 정규화 이전의 이메일 변환은 V3 마이그레이션에서 한 번만 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadEmailIndex() {
+        rebuildEmailIndex();
+    }
+
+    /**
+     * 가입 회원이 예상 크기를 넘어 오탐률이 올라갔다면 인덱스를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void rebuildEmailIndexIfFull() {
+        if (userEmailIndex.isOverCapacity()) {
+            rebuildEmailIndex();
+        }
+    }
+
+    private TransactionTemplate readOnlyTransactionTemplate() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+
+    private void rebuildEmailIndex() {
+        try {
+            userEmailIndex.beginRebuild();
+            readOnlyTransactionTemplate().executeWithoutResult(status -> {
+                // 정규화하지 못하고 남은 이전 이메일도 정규화된 값으로 등록 (가입 중복 확인이 대소문자 구분 없이 동작하도록)
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    userEmailIndex.load(userRepository.count(), emails.map(User::normalizeEmail));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("가입 이메일 인덱스 적재에 실패하였습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,93 @@
+package com.june.swu.global.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter
+ *
+ * "확실히 없음"과 "있을 수도 있음"만 답하는 확률적 집합으로, 없는 값을 있다고 답할 확률(false positive)은
+ * 생성 시 지정한 값 이하로 유지되며 있는 값을 없다고 답하는 일은 없습니다.
+ * 정확한 집합 앞에 두어 대부분의 조회를 메모리 몇 워드만 읽고 끝내는 용도로 사용합니다.
+ * 값을 제거할 수 없으므로, 제거가 필요하면 남은 값들로 새로 만들어 교체합니다.
+ * 비트 배열을 AtomicLongArray 로 두어 여러 스레드가 동시에 추가, 조회할 수 있습니다.
+ */
+public class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.words = new AtomicLongArray((int) ((numBits + 63) / 64));
+        this.numBits = (long) words.length() * 64;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (0 초과 1 미만)
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long numBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * LN2));
+        return new BloomFilter(Math.max(numBits, 64), numHashes);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = index(hash1 + i * hash2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * false 라면 한 번도 추가되지 않은 값입니다.
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % numBits;
+    }
+
+    // FNV-1a 64 bit 후 비트를 고르게 섞어 줌
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // MurmurHash3 의 64 bit finalizer
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
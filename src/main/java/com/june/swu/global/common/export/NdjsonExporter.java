@@ -0,0 +1,131 @@
+package com.june.swu.global.common.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.june.swu.global.exception.CExportBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * NDJSON(한 줄에 JSON 객체 하나) 내보내기
+ *
+ * 조회 결과를 목록으로 모으지 않고, JDBC 커서로 FETCH_SIZE 행씩 받아 한 행씩 응답 스트림에 바로 씁니다.
+ * 테이블 크기와 관계없이 메모리 사용량이 일정합니다.
+ * PostgreSQL 드라이버는 auto-commit 이 꺼져 있을 때만 fetch size 단위로 커서를 사용하므로 읽기 전용 트랜잭션 안에서 조회합니다.
+ * 응답은 서블릿 비동기 요청으로 처리되어 내보내는 동안 요청 스레드를 점유하지 않습니다.
+ * 내보내는 동안에는 클라이언트가 읽는 속도에 맞춰 DB 커넥션을 계속 점유하므로, 동시에 실행하는 내보내기 수를 제한하고
+ * 넘는 요청은 응답을 시작하기 전에 CExportBusyException 으로 거절합니다.
+ */
+@Slf4j
+@Component
+public class NdjsonExporter {
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_ROWS = 1_000;    // 클라이언트가 진행 상황을 볼 수 있도록 주기적으로 flush
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    public NdjsonExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          @Value("${swu.export.max-concurrent:2}") int maxConcurrentExports) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrentExports);
+    }
+
+    /**
+     * @param sql    내보낼 행을 조회하는 쿼리 (정렬 포함)
+     * @param writer 한 행을 JSON 객체 하나로 씀
+     * @param args   쿼리 파라미터
+     * @return
+     */
+    public StreamingResponseBody export(String sql, RowWriter writer, Object... args) {
+        // 컨트롤러 스레드에서 미리 확보하여, 거절할 때는 일반 에러 응답을 보낼 수 있도록 함
+        if (!permits.tryAcquire()) {
+            throw new CExportBusyException();
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+
+        // 본문이 실행되지 않고 끝나는 경우(비동기 시작 전 연결 종료, 타임아웃 등)에도 비동기 요청이 끝날 때 반환
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            WebAsyncUtils.getAsyncManager(attributes.getRequest())
+                    .registerCallableInterceptor(NdjsonExporter.class.getName(), new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            release.run();
+                        }
+                    });
+        }
+
+        return outputStream -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(outputStream, sql, writer, args));
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    private void write(OutputStream outputStream, String sql, RowWriter writer, Object[] args) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            int[] rows = {0};
+            jdbcTemplate.query(sql, resultSet -> {
+                try {
+                    generator.writeStartObject();
+                    writer.write(resultSet, generator);
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    if (++rows[0] % FLUSH_ROWS == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊은 경우 조회를 중단
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+            log.info("[NdjsonExporter] {} rows exported", rows[0]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(ResultSet resultSet, JsonGenerator generator) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,57 @@
+package com.june.swu.global.common.pagination;
+
+import com.june.swu.global.exception.CInvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서 토큰
+ *
+ * 마지막으로 받은 행의 정렬 키들을 ':'로 이어 붙여 base64url로 인코딩합니다.
+ * 클라이언트는 값을 해석하지 않고 다음 요청의 after 파라미터로 그대로 전달합니다.
+ */
+public final class Cursor {
+    private static final String DELIMITER = ":";
+
+    private Cursor() {
+    }
+
+    public static String encode(Object... values) {
+        StringJoiner joiner = new StringJoiner(DELIMITER);
+        for (Object value : values) {
+            joiner.add(String.valueOf(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int length) {
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(DELIMITER, -1);
+            if (values.length != length) {
+                throw new CInvalidCursorException();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new CInvalidCursorException();
+        }
+    }
+
+    /**
+     * 게시글 번호 하나로 이루어진 커서를 해석합니다. 커서가 없다면 첫 페이지를 의미하는 Long.MAX_VALUE를 반환합니다.
+     */
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new CInvalidCursorException();
+        }
+    }
+}
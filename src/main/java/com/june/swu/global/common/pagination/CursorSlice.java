@@ -0,0 +1,41 @@
+package com.june.swu.global.common.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지 조회 결과
+ *
+ * count 쿼리 없이 다음 페이지 존재 여부(hasNext)와 다음 요청에 사용할 커서만 함께 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final boolean hasNext;
+    private final String nextCursor;    // 마지막 페이지라면 null
+
+    public static <T> CursorSlice<T> of(List<T> content, boolean hasNext, Function<T, String> cursorOf) {
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorSlice<>(content, hasNext, nextCursor);
+    }
+
+    /**
+     * size + 1개까지 조회한 목록으로 결과를 만듭니다. 초과분이 있다면 다음 페이지가 존재하는 것으로 봅니다.
+     */
+    public static <T> CursorSlice<T> ofOverFetched(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        return of(hasNext ? rows.subList(0, size) : rows, hasNext, cursorOf);
+    }
+
+    /**
+     * 커서는 그대로 두고 내용만 변환합니다.
+     */
+    public <R> CursorSlice<R> map(Function<T, R> mapper) {
+        return new CursorSlice<>(content.stream().map(mapper).collect(Collectors.toList()), hasNext, nextCursor);
+    }
+}
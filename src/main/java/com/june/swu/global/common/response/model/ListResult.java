@@ -11,4 +11,10 @@ import java.util.List;
 @Schema(title = "다중 응답 모델", description = "API 반환값이 다중 객체일 경우 해당 모델로 처리합니다.")
 public class ListResult<T> extends CommonResult {
     private List<T> data;
+
+    @Schema(title = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(title = "다음 페이지 커서", description = "다음 페이지 요청 시 after 파라미터로 전달, 마지막 페이지면 null")
+    private String nextCursor;
 }
@@ -1,5 +1,6 @@
 package com.june.swu.global.common.response.service;
 
+import com.june.swu.global.common.pagination.CursorSlice;
 import com.june.swu.global.common.response.CommonCode;
 import com.june.swu.global.common.response.model.CommonResult;
 import com.june.swu.global.common.response.model.ListResult;
@@ -26,6 +27,14 @@ public class ResponseService {
         return result;
     }
 
+    // 커서 기반 복수 결과 처리 메소드
+    public <T> ListResult<T> getListResult(CursorSlice<T> slice) {
+        ListResult<T> result = getListResult(slice.getContent());
+        result.setHasNext(slice.isHasNext());
+        result.setNextCursor(slice.getNextCursor());
+        return result;
+    }
+
     // 결과'만' 반환 (성공)
     public CommonResult getSuccessResult() {
         CommonResult result = new CommonResult();
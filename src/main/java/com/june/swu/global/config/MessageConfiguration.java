@@ -1,5 +1,6 @@
 package com.june.swu.global.config;
 
+import com.june.swu.global.exception.ErrorCodeTable;
 import net.rakugakibox.util.YamlResourceBundle;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
@@ -7,34 +8,17 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.web.servlet.LocaleResolver;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
-import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 @Configuration
-public class MessageConfiguration implements WebMvcConfigurer {
+public class MessageConfiguration {
+    // 세션에 언어를 저장하지 않고 요청마다 lang 파라미터, Accept-Language 헤더로 결정 (에러 메시지는 ErrorCodeTable 의 언어별 표 사용)
     @Bean
     public LocaleResolver localeResolver() {
-        SessionLocaleResolver slr = new SessionLocaleResolver();
-        slr.setDefaultLocale(Locale.KOREAN);
-        return slr;
-    }
-
-    @Bean
-    public LocaleChangeInterceptor localeChangeInterceptor() {
-        LocaleChangeInterceptor lci = new LocaleChangeInterceptor();
-        lci.setParamName("lang");
-        return lci;
-    }
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(localeChangeInterceptor());
+        return new StatelessLocaleResolver(ErrorCodeTable.SUPPORTED_LOCALES, ErrorCodeTable.DEFAULT_LOCALE);
     }
 
     @Bean
@@ -4,6 +4,9 @@ import com.june.swu.domain.token.config.CustomAccessDeniedHandler;
 import com.june.swu.domain.token.config.CustomAuthenticationEntryPoint;
 import com.june.swu.domain.token.config.JwtAuthenticationFilter;
 import com.june.swu.domain.token.config.JwtProvider;
+import com.june.swu.global.exception.ErrorCodeTable;
+import com.june.swu.global.ratelimit.RateLimitFilter;
+import com.june.swu.global.ratelimit.RateLimitService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +16,7 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.servlet.LocaleResolver;
 
 
 @RequiredArgsConstructor
@@ -21,6 +25,9 @@ public class SecurityConfiguration {
     private final JwtProvider jwtProvider;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final RateLimitService rateLimitService;
+    private final ErrorCodeTable errorCodeTable;
+    private final LocaleResolver localeResolver;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -33,6 +40,9 @@ public class SecurityConfiguration {
                 .authorizeRequests() // URL 별 권한 관리를 설정하는 옵션의 시작점, antMathcers를 작성하기 위해서는 먼저 선언되어야 한다.
                 .antMatchers(HttpMethod.POST, "/api/signup", "/api/login", "/api/reissue")
                 .permitAll()
+                // 전체 회원, 게시글 내보내기는 관리자만 가능 (개인정보 포함, 내보내는 동안 DB 커넥션 점유)
+                .antMatchers(HttpMethod.GET, "/api/users/export", "/api/posts/export")
+                .hasRole("ADMIN")
                 .anyRequest() // 그 외 나머지 요청은 인증된 회원만 가능함
                 .hasRole("USER")
 
@@ -42,6 +52,10 @@ public class SecurityConfiguration {
                 .accessDeniedHandler(customAccessDeniedHandler)
 
                 .and()
+                // 요청 제한 필터를 먼저 등록하여 같은 위치의 Jwt 인증 필터보다 앞에서 실행
+                .addFilterBefore(
+                        new RateLimitFilter(rateLimitService, errorCodeTable, localeResolver), UsernamePasswordAuthenticationFilter.class
+                )
                 .addFilterBefore(
                         new JwtAuthenticationFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class
                 )
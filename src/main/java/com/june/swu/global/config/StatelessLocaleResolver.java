@@ -0,0 +1,91 @@
+package com.june.swu.global.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.LocaleResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 세션을 사용하지 않는 언어 결정
+ *
+ * 요청마다 lang 파라미터, Accept-Language 헤더 순서로 지원하는 언어 중 하나를 고르고, 없다면 기본 언어를 사용합니다.
+ * 언어를 서버에 저장하지 않으므로 HttpSession 을 만들지 않으며, 어느 서버에서 처리하더라도 결과가 같습니다.
+ * Accept-Language 해석 결과는 헤더 값별로 크기가 제한된 캐시에 보관합니다. (클라이언트가 보내는 값의 종류는 많지 않음)
+ */
+public class StatelessLocaleResolver implements LocaleResolver {
+    public static final String LANG_PARAMETER = "lang";
+    private static final long MAX_CACHED_HEADERS = 1_000;
+
+    private final List<Locale> supportedLocales;
+    private final Locale defaultLocale;
+    private final Cache<String, Locale> headerLocales = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_HEADERS)
+            .build();
+
+    public StatelessLocaleResolver(List<Locale> supportedLocales, Locale defaultLocale) {
+        this.supportedLocales = List.copyOf(supportedLocales);
+        this.defaultLocale = defaultLocale;
+    }
+
+    @Override
+    public Locale resolveLocale(HttpServletRequest request) {
+        String lang = request.getParameter(LANG_PARAMETER);
+        if (StringUtils.hasText(lang)) {
+            Locale locale = fromLangParameter(lang.trim());
+            if (locale != null) {
+                return locale;
+            }
+        }
+
+        String acceptLanguage = request.getHeader("Accept-Language");
+        if (!StringUtils.hasText(acceptLanguage)) {
+            return defaultLocale;
+        }
+        return headerLocales.get(acceptLanguage, this::fromAcceptLanguage);
+    }
+
+    /**
+     * 언어는 요청마다 결정하므로 저장하지 않습니다. (lang 파라미터 또는 Accept-Language 헤더로 변경)
+     */
+    @Override
+    public void setLocale(HttpServletRequest request, HttpServletResponse response, Locale locale) {
+        throw new UnsupportedOperationException("locale is resolved per request from the lang parameter or Accept-Language header");
+    }
+
+    private Locale fromAcceptLanguage(String acceptLanguage) {
+        try {
+            Locale locale = Locale.lookup(Locale.LanguageRange.parse(acceptLanguage), supportedLocales);
+            return locale == null ? defaultLocale : locale;
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 헤더
+            return defaultLocale;
+        }
+    }
+
+    private Locale fromLangParameter(String lang) {
+        try {
+            return supported(StringUtils.parseLocale(lang));
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 값은 헤더로 결정
+            return null;
+        }
+    }
+
+    // 언어만 비교 (en-US -> en)
+    private Locale supported(Locale locale) {
+        if (locale == null) {
+            return null;
+        }
+        for (Locale supportedLocale : supportedLocales) {
+            if (supportedLocale.getLanguage().equals(locale.getLanguage())) {
+                return supportedLocale;
+            }
+        }
+        return null;
+    }
+}
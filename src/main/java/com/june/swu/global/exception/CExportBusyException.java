@@ -0,0 +1,15 @@
+package com.june.swu.global.exception;
+
+public class CExportBusyException extends CStacklessException {
+    public CExportBusyException() {
+        super();
+    }
+
+    public CExportBusyException(String message) {
+        super(message);
+    }
+
+    public CExportBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.june.swu.global.exception;
+
+public class CInvalidCursorException extends CStacklessException {
+
+    public CInvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CInvalidCursorException(String message) {
+        super(message);
+    }
+
+    public CInvalidCursorException() {
+        super();
+    }
+}
@@ -0,0 +1,22 @@
+package com.june.swu.global.exception;
+
+/**
+ * 도메인 예외의 공통 부모
+ *
+ * C*Exception 은 GlobalExceptionHandler 에서 에러 코드로 바꾸기 위한 흐름 제어용이며 스택 트레이스를 사용하지 않습니다.
+ * 잘못된 토큰이 대량으로 들어오는 경우처럼 예외가 자주 발생할 때 스택 트레이스 생성 비용이 없도록 fillInStackTrace 를 생략합니다.
+ * 원인(cause)이 있다면 원인의 스택 트레이스는 그대로 남습니다.
+ */
+public abstract class CStacklessException extends RuntimeException {
+    protected CStacklessException() {
+        super(null, null, false, false);
+    }
+
+    protected CStacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected CStacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.june.swu.global.exception;
+
+public class CTooManyRequestsException extends CStacklessException {
+    public CTooManyRequestsException() {
+        super();
+    }
+
+    public CTooManyRequestsException(String message) {
+        super(message);
+    }
+
+    public CTooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.june.swu.global.exception;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 한 언어로 해석된 에러 코드와 메시지 (불변)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public final class ErrorCode {
+    private final int code;
+    private final String message;
+}
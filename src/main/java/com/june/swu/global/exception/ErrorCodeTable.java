@@ -0,0 +1,69 @@
+package com.june.swu.global.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import net.rakugakibox.util.YamlResourceBundle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * 언어별 에러 코드 표
+ *
+ * 서버 시작 시 i18n/exception 의 모든 항목(xxx.code, xxx.msg)을 지원하는 언어마다 MessageSource 로 한 번씩 해석해 불변 표로 만듭니다.
+ * 예외 처리 시에는 메시지 해석, 숫자 변환 없이 표에서 꺼내 쓰기만 합니다.
+ * 지원하지 않는 언어는 기본 언어(한국어)의 표를 사용합니다.
+ */
+@Slf4j
+@Component
+public class ErrorCodeTable {
+    public static final Locale DEFAULT_LOCALE = Locale.KOREAN;
+    public static final List<Locale> SUPPORTED_LOCALES = List.of(Locale.KOREAN, Locale.ENGLISH);
+    private static final String CODE_SUFFIX = ".code";
+
+    private final Map<String, Map<String, ErrorCode>> tables;   // 언어 -> (에러 이름 -> 코드, 메시지)
+
+    public ErrorCodeTable(MessageSource messageSource, @Value("${spring.messages.basename}") String basename) {
+        Map<String, Map<String, ErrorCode>> built = new HashMap<>();
+        for (Locale locale : SUPPORTED_LOCALES) {
+            ResourceBundle bundle = ResourceBundle.getBundle(basename, locale, YamlResourceBundle.Control.INSTANCE);
+            Map<String, ErrorCode> table = new HashMap<>();
+            for (String key : Collections.list(bundle.getKeys())) {
+                if (!key.endsWith(CODE_SUFFIX)) {
+                    continue;
+                }
+                String name = key.substring(0, key.length() - CODE_SUFFIX.length());
+                table.put(name, new ErrorCode(
+                        Integer.parseInt(messageSource.getMessage(name + ".code", null, locale)),
+                        messageSource.getMessage(name + ".msg", null, locale)));
+            }
+            built.put(locale.getLanguage(), Map.copyOf(table));
+            log.info("[ErrorCodeTable] {} error codes loaded for {}", table.size(), locale);
+        }
+        this.tables = Map.copyOf(built);
+    }
+
+    /**
+     * @param name   에러 이름 (예: userNotFound)
+     * @param locale
+     * @return
+     */
+    public ErrorCode get(String name, Locale locale) {
+        Map<String, ErrorCode> table = locale == null ? null : tables.get(locale.getLanguage());
+        if (table == null) {
+            table = tables.get(DEFAULT_LOCALE.getLanguage());
+        }
+
+        ErrorCode errorCode = table.get(name);
+        if (errorCode == null) {
+            throw new IllegalArgumentException("unknown error code: " + name);
+        }
+        return errorCode;
+    }
+}
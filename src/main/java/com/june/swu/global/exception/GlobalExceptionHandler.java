@@ -1,16 +1,21 @@
 package com.june.swu.global.exception;
 
+import com.june.swu.domain.post.exception.CAlreadyParticipatedException;
+import com.june.swu.domain.post.exception.CBulkSizeExceededException;
+import com.june.swu.domain.post.exception.CParticipationNotFoundException;
 import com.june.swu.domain.post.exception.CPostDeleteNotAllowed;
+import com.june.swu.domain.post.exception.CPostFullException;
 import com.june.swu.domain.post.exception.CPostNotFoundException;
 import com.june.swu.domain.post.exception.CPostUpdateNotAllowed;
+import com.june.swu.domain.post.exception.CRecruitmentBelowParticipantsException;
 import com.june.swu.domain.token.exception.*;
 import com.june.swu.domain.user.exception.CEmailLoginFailedException;
 import com.june.swu.domain.user.exception.CEmailSignUpFailedException;
+import com.june.swu.domain.user.exception.CPasswordHashBusyException;
 import com.june.swu.domain.user.exception.CUserNotFoundException;
 import com.june.swu.global.common.response.model.CommonResult;
 import com.june.swu.global.common.response.service.ResponseService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,14 +28,12 @@ import javax.servlet.http.HttpServletRequest;
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
     private final ResponseService responseService;
-    private final MessageSource messageSource;
+    private final ErrorCodeTable errorCodeTable;
 
-    private String getMessage(String code) {
-        return getMessage(code, null);
-    }
-
-    private String getMessage(String code, Object[] args) {
-        return messageSource.getMessage(code, args, LocaleContextHolder.getLocale());
+    // 요청 언어의 에러 코드, 메시지로 실패 응답 생성 (서버 시작 시 만들어 둔 표에서 조회)
+    private CommonResult fail(String name) {
+        ErrorCode errorCode = errorCodeTable.get(name, LocaleContextHolder.getLocale());
+        return responseService.getFailResult(errorCode.getCode(), errorCode.getMessage());
     }
 
     /**
@@ -39,8 +42,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     protected CommonResult defaultException(HttpServletRequest request, Exception e) {
-        return responseService.getFailResult
-                (Integer.parseInt(getMessage("unKnown.code")), getMessage("unKnown.msg"));
+        return fail("unKnown");
     }
 
     /***
@@ -51,8 +53,7 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     protected CommonResult userNotFoundException(
             HttpServletRequest request, CUserNotFoundException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("userNotFound.code")), getMessage("userNotFound.msg"));
+        return fail("userNotFound");
     }
 
     /***
@@ -62,9 +63,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CEmailLoginFailedException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     protected CommonResult emailLoginFailedException(HttpServletRequest request, CEmailLoginFailedException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("emailLoginFailed.code")), getMessage("emailLoginFailed.msg")
-        );
+        return fail("emailLoginFailed");
     }
 
     /***
@@ -74,9 +73,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CEmailSignUpFailedException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     protected CommonResult emailSignupFailedException(HttpServletRequest request, CEmailSignUpFailedException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("emailSignupFailed.code")), getMessage("emailSignupFailed.msg")
-        );
+        return fail("emailSignupFailed");
     }
 
     /** -1003 전달한 Jwt 이 정상적이지 않은 경우 발생 시키는 예외 */
@@ -84,9 +81,7 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     protected CommonResult authenticationEntrypointException(
             HttpServletRequest request, CAuthenticationEntryPointException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("authenticationEntrypoint.code")),
-                getMessage("authenticationEntrypoint.msg"));
+        return fail("authenticationEntrypoint");
     }
 
     /**
@@ -96,9 +91,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CAccessDeniedException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     protected CommonResult accessDeniedException(HttpServletRequest request, CAccessDeniedException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("accessDenied.code")), getMessage("accessDenied.msg")
-        );
+        return fail("accessDenied");
     }
 
     /**
@@ -108,9 +101,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CRefreshTokenException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     protected CommonResult refreshTokenException(HttpServletRequest request, CRefreshTokenException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("refreshTokenInValid.code")), getMessage("refreshTokenInValid.msg")
-        );
+        return fail("refreshTokenInValid");
     }
 
     /**
@@ -120,9 +111,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CExpiredAccessTokenException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     protected CommonResult expiredAccessTokenException(HttpServletRequest request, CExpiredAccessTokenException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("expiredAccessToken.code")), getMessage("expiredAccessToken.msg")
-        );
+        return fail("expiredAccessToken");
     }
 
     /**
@@ -132,9 +121,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CAccessTokenException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     protected CommonResult accessTokenException(HttpServletRequest request, CAccessTokenException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("accessTokenInValid.code")), getMessage("accessTokenInValid.msg")
-        );
+        return fail("accessTokenInValid");
     }
 
     /**
@@ -144,9 +131,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CPostNotFoundException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     protected CommonResult postNotFoundException(HttpServletRequest request, CPostNotFoundException e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("postNotFound.code")), getMessage("postNotFound.msg")
-        );
+        return fail("postNotFound");
     }
 
     /**
@@ -156,9 +141,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CPostUpdateNotAllowed.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     protected CommonResult postUpdateNotAllowedException(HttpServletRequest request, CPostUpdateNotAllowed e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("postUpdateNotAllowed.code")), getMessage("postUpdateNotAllowed.msg")
-        );
+        return fail("postUpdateNotAllowed");
     }
 
     /**
@@ -168,8 +151,96 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CPostDeleteNotAllowed.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     protected CommonResult postDeleteNotAllowedException(HttpServletRequest request, CPostDeleteNotAllowed e) {
-        return responseService.getFailResult(
-                Integer.parseInt(getMessage("postDeleteNotAllowed.code")), getMessage("postDeleteNotAllowed.msg")
-        );
+        return fail("postDeleteNotAllowed");
+    }
+
+    /**
+     * -1011
+     * 페이지네이션 커서를 해석할 수 없을 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CInvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected CommonResult invalidCursorException(HttpServletRequest request, CInvalidCursorException e) {
+        return fail("invalidCursor");
+    }
+
+    /**
+     * -1012
+     * 모집 인원이 가득 찼거나 주문 시간이 지난 게시글에 참여하려고 할 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CPostFullException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    protected CommonResult postFullException(HttpServletRequest request, CPostFullException e) {
+        return fail("postFull");
+    }
+
+    /**
+     * -1013
+     * 이미 참여한 게시글(또는 본인이 작성한 게시글)에 참여하려고 할 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CAlreadyParticipatedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    protected CommonResult alreadyParticipatedException(HttpServletRequest request, CAlreadyParticipatedException e) {
+        return fail("alreadyParticipated");
+    }
+
+    /**
+     * -1014
+     * 참여하지 않은 게시글에서 나가려고 할 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CParticipationNotFoundException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected CommonResult participationNotFoundException(HttpServletRequest request, CParticipationNotFoundException e) {
+        return fail("participationNotFound");
+    }
+
+    /**
+     * -1015
+     * 비밀번호 해시 대기열이 가득 차 로그인, 회원가입 요청을 처리할 수 없을 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CPasswordHashBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    protected CommonResult passwordHashBusyException(HttpServletRequest request, CPasswordHashBusyException e) {
+        return fail("passwordHashBusy");
+    }
+
+    /**
+     * -1016
+     * 같은 이메일로 로그인, 회원가입 요청이 너무 많을 때 발생 시키는 에러 (주소 기준 제한은 RateLimitFilter 에서 바로 응답)
+     */
+    @ExceptionHandler(CTooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    protected CommonResult tooManyRequestsException(HttpServletRequest request, CTooManyRequestsException e) {
+        return fail("tooManyRequests");
+    }
+
+    /**
+     * -1017
+     * 동시에 실행할 수 있는 내보내기(NDJSON) 수를 넘었을 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CExportBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    protected CommonResult exportBusyException(HttpServletRequest request, CExportBusyException e) {
+        return fail("exportBusy");
+    }
+
+    /**
+     * -1018
+     * 게시글 수정 시 모집 인원을 현재 참여 인원보다 적게 바꾸려고 할 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CRecruitmentBelowParticipantsException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    protected CommonResult recruitmentBelowParticipantsException(HttpServletRequest request, CRecruitmentBelowParticipantsException e) {
+        return fail("recruitmentBelowParticipants");
+    }
+
+    /**
+     * -1019
+     * 게시글 일괄 등록 요청이 최대 건수를 넘었을 때 발생 시키는 에러
+     */
+    @ExceptionHandler(CBulkSizeExceededException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected CommonResult bulkSizeExceededException(HttpServletRequest request, CBulkSizeExceededException e) {
+        return fail("bulkSizeExceeded");
     }
 }
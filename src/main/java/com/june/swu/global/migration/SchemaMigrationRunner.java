@@ -0,0 +1,109 @@
+package com.june.swu.global.migration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 데이터 마이그레이션
+ *
+ * 테이블, 컬럼은 Hibernate(ddl-auto)가 만들고, 엔티티 변경만으로는 옮길 수 없는 기존 데이터(시퀀스 시작 값, 컬럼 값 변환 등)는
+ * classpath:db/migration/V{번호}__{설명}.sql 스크립트로 옮깁니다.
+ * Hibernate 의 스키마 생성 이후, 웹 요청을 받기 전에 번호 순서대로 실행하며 적용한 스크립트는 schema_migration 테이블에 기록해 한 번만 실행합니다.
+ * 여러 인스턴스가 동시에 시작하더라도 advisory lock 으로 한 인스턴스만 적용하며, 스크립트가 실패하면 전체를 되돌리고 시작을 중단합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class SchemaMigrationRunner implements InitializingBean {
+    private static final String LOCATION = "classpath:db/migration/V*__*.sql";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final long LOCK_KEY = 0x5357_5553_4d49_47L;  // 다른 advisory lock 과 겹치지 않는 임의의 값
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourcePatternResolver resourcePatternResolver;
+
+    public SchemaMigrationRunner(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                 ResourcePatternResolver resourcePatternResolver) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.resourcePatternResolver = resourcePatternResolver;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        List<Migration> migrations = Arrays.stream(resourcePatternResolver.getResources(LOCATION))
+                .map(Migration::of)
+                .sorted(Comparator.comparingInt(Migration::getVersion))
+                .collect(Collectors.toList());
+        if (migrations.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 트랜잭션이 끝날 때 자동으로 풀리는 잠금, 다른 인스턴스는 적용이 끝날 때까지 대기
+            jdbcTemplate.execute("select pg_advisory_xact_lock(" + LOCK_KEY + ")");
+            jdbcTemplate.execute("create table if not exists schema_migration (" +
+                    "version integer primary key, description varchar(200) not null, applied_at timestamp not null)");
+
+            Set<Integer> applied = new HashSet<>(
+                    jdbcTemplate.queryForList("select version from schema_migration", Integer.class));
+            for (Migration migration : migrations) {
+                if (applied.contains(migration.getVersion())) {
+                    continue;
+                }
+
+                log.info("[SchemaMigration] V{} {} 적용", migration.getVersion(), migration.getDescription());
+                jdbcTemplate.execute(migration.getSql());
+                jdbcTemplate.update("insert into schema_migration (version, description, applied_at) values (?, ?, now())",
+                        migration.getVersion(), migration.getDescription());
+            }
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final String sql;
+
+        static Migration of(Resource resource) {
+            Matcher matcher = FILE_NAME.matcher(String.valueOf(resource.getFilename()));
+            if (!matcher.matches()) {
+                throw new IllegalStateException("마이그레이션 파일 이름이 올바르지 않습니다: " + resource.getFilename());
+            }
+
+            try (InputStream inputStream = resource.getInputStream()) {
+                return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                        StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.june.swu.global.ratelimit;
+
+import com.june.swu.global.exception.ErrorCode;
+import com.june.swu.global.exception.ErrorCodeTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.servlet.LocaleResolver;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인, 회원가입, 토큰 재발급 요청을 클라이언트 주소 기준으로 제한하는 필터
+ *
+ * 인증 필터, 컨트롤러, 예외 처리기를 거치지 않고 이 필터에서 바로 429 를 응답합니다.
+ * 응답 본문은 ErrorCodeTable 의 언어별 에러 코드로 한 번만 만들어 재사용합니다.
+ * DispatcherServlet 을 거치지 않으므로 언어는 예외 처리기와 같은 LocaleResolver 로 직접 정합니다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends GenericFilterBean {
+    private static final Set<String> LIMITED_PATHS = Set.of("/api/login", "/api/signup", "/api/reissue");
+
+    private final RateLimitService rateLimitService;
+    private final ErrorCodeTable errorCodeTable;
+    private final LocaleResolver localeResolver;
+    private final Map<ErrorCode, byte[]> rejectedBodies = new ConcurrentHashMap<>();
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (!HttpMethod.POST.matches(httpRequest.getMethod()) || !LIMITED_PATHS.contains(httpRequest.getServletPath())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 주소가 채워짐
+        long waitNanos = rateLimitService.tryAcquireClient(httpRequest.getRemoteAddr());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        byte[] body = rejectedBody(localeResolver.resolveLocale(httpRequest));
+        httpResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        httpResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        httpResponse.setContentLength(body.length);
+        httpResponse.getOutputStream().write(body);
+    }
+
+    // 지원하는 언어 수만큼만 만들어지므로 에러 코드(언어)별로 보관
+    private byte[] rejectedBody(Locale locale) {
+        return rejectedBodies.computeIfAbsent(errorCodeTable.get("tooManyRequests", locale), RateLimitFilter::toJson);
+    }
+
+    // CommonResult 와 같은 형식의 실패 응답
+    private static byte[] toJson(ErrorCode errorCode) {
+        String json = "{\"success\":false,\"code\":" + errorCode.getCode()
+                + ",\"message\":\"" + errorCode.getMessage().replace("\"", "\\\"") + "\"}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package com.june.swu.global.ratelimit;
+
+import com.june.swu.global.exception.CTooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+
+/**
+ * 로그인, 회원가입, 토큰 재발급 요청 제한
+ *
+ * 클라이언트 주소 기준 제한은 RateLimitFilter 에서, 이메일 기준 제한은 SignService 에서 확인합니다.
+ * 주소를 바꿔가며 한 계정에 시도하는 경우와 한 주소에서 여러 계정에 시도하는 경우를 모두 막기 위해 두 기준을 함께 사용합니다.
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+    private static final int MAX_KEYS = 100_000;
+
+    private final TokenBucketLimiter clientLimiter;
+    private final TokenBucketLimiter emailLimiter;
+    private final Counter clientRejectedCounter;
+    private final Counter emailRejectedCounter;
+
+    public RateLimitService(MeterRegistry meterRegistry,
+                            @Value("${swu.rate-limit.client.permits-per-minute:60}") int clientPermitsPerMinute,
+                            @Value("${swu.rate-limit.client.burst:20}") int clientBurst,
+                            @Value("${swu.rate-limit.email.permits-per-minute:10}") int emailPermitsPerMinute,
+                            @Value("${swu.rate-limit.email.burst:5}") int emailBurst) {
+        this.clientLimiter = new TokenBucketLimiter(clientPermitsPerMinute, clientBurst, MAX_KEYS);
+        this.emailLimiter = new TokenBucketLimiter(emailPermitsPerMinute, emailBurst, MAX_KEYS);
+
+        this.clientRejectedCounter = Counter.builder("rate.limit.rejected")
+                .tag("key", "client")
+                .description("요청 제한으로 거절된 요청 수")
+                .register(meterRegistry);
+        this.emailRejectedCounter = Counter.builder("rate.limit.rejected")
+                .tag("key", "email")
+                .description("요청 제한으로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.buckets", this, service -> service.clientLimiter.size() + service.emailLimiter.size())
+                .description("요청 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 클라이언트 주소 기준 확인
+     *
+     * @param clientAddress
+     * @return 0 이면 허용, 0 보다 크면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquireClient(String clientAddress) {
+        long waitNanos = clientLimiter.tryAcquire(clientAddress);
+        if (waitNanos > 0) {
+            clientRejectedCounter.increment();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 이메일 기준 확인, 제한을 넘으면 CTooManyRequestsException
+     *
+     * @param email
+     */
+    public void checkEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        if (emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT)) > 0) {
+            emailRejectedCounter.increment();
+            throw new CTooManyRequestsException();
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        int evicted = clientLimiter.evictIdle() + emailLimiter.evictIdle();
+        log.debug("[RateLimit] {} idle buckets evicted", evicted);
+    }
+}
@@ -0,0 +1,88 @@
+package com.june.swu.global.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(클라이언트 주소, 이메일) 별 토큰 버킷
+ *
+ * 버킷마다 남은 토큰 수 대신 "다음 요청이 도착할 것으로 예상되는 시각(TAT)" 하나만 AtomicLong 으로 보관하는 GCRA 방식입니다.
+ * 토큰 충전을 위한 타이머나 락 없이 CAS 한 번으로 허용 여부를 결정하며,
+ * TAT 가 현재 시각 이전인 버킷은 가득 찬 버킷과 같으므로 evictIdle() 에서 제거해도 동작이 달라지지 않습니다.
+ */
+public class TokenBucketLimiter {
+    private static final String OVERFLOW_KEY = "*";    // 키 수가 최대치를 넘었을 때 새 키들이 함께 사용하는 버킷
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;   // 토큰 하나가 충전되는 시간
+    private final long burstToleranceNanos;     // 한 번에 허용하는 요청 수(burst)만큼 앞당길 수 있는 시간
+    private final int maxKeys;
+    private final long origin = System.nanoTime();
+
+    /**
+     * @param permitsPerMinute 분당 허용 요청 수
+     * @param burst 연속으로 허용하는 최대 요청 수
+     * @param maxKeys 보관하는 최대 키 수, 넘으면 새 키는 하나의 버킷을 함께 사용
+     */
+    public TokenBucketLimiter(int permitsPerMinute, int burst, int maxKeys) {
+        if (permitsPerMinute <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute and burst must be positive");
+        }
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 요청 허용 여부 확인
+     *
+     * @param key
+     * @return 0 이면 허용, 0 보다 크면 다음 요청이 허용될 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime() - origin;
+        AtomicLong bucket = bucketOf(key, now);
+
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + emissionIntervalNanos;
+            long waitNanos = next - now - emissionIntervalNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷 제거
+     *
+     * 제거 직전에 가져간 버킷에 대한 요청은 한 번 더 허용될 수 있지만, 최대 burst 만큼이므로 무시합니다.
+     *
+     * @return 제거된 버킷 수
+     */
+    public int evictIdle() {
+        long now = System.nanoTime() - origin;
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketOf(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        String bucketKey = buckets.size() < maxKeys ? key : OVERFLOW_KEY;
+        return buckets.computeIfAbsent(bucketKey, k -> new AtomicLong(now));
+    }
+}
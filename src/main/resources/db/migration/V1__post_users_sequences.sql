@@ -0,0 +1,31 @@
+-- post, users 의 id 생성을 IDENTITY 에서 pooled 시퀀스(allocationSize = 50)로 바꾸면서 기존 id 와 겹치지 않도록 시퀀스를 맞춤
+-- Hibernate pooled optimizer 는 nextval 값 v 에 대해 (v - 49) ~ v 를 id 로 사용하므로, 다음 nextval 은 max(id) + 50 이상이어야 함
+-- (ddl-auto 가 이미 1 부터 시작하는 시퀀스를 만들었다면 값을 앞당기고, 없다면 새로 만듦)
+DO $$
+DECLARE
+    target record;
+    max_id bigint;
+    next_value bigint;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES ('post', 'id', 'post_seq'), ('users', 'user_id', 'users_seq')) AS t(table_name, id_column, sequence_name)
+    LOOP
+        IF to_regclass(target.table_name) IS NULL THEN
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('SELECT coalesce(max(%I), 0) FROM %I', target.id_column, target.table_name) INTO max_id;
+
+        IF to_regclass(target.sequence_name) IS NULL THEN
+            EXECUTE format('CREATE SEQUENCE %I START WITH %s INCREMENT BY 50', target.sequence_name, max_id + 50);
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', target.sequence_name);
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM %I', target.sequence_name)
+            INTO next_value;
+        IF next_value - 49 <= max_id THEN
+            PERFORM setval(target.sequence_name, max_id + 50, false);
+        END IF;
+    END LOOP;
+END $$;
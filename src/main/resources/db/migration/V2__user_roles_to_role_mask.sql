@@ -0,0 +1,27 @@
+-- 권한을 user_roles 테이블(기존 @ElementCollection)에서 users.role_mask 비트 마스크로 옮김 (Role: USER = 1, ADMIN = 2)
+-- ddl-auto 가 role_mask 컬럼을 기본값 1 로 추가하므로, user_roles 에 권한 행이 있는 회원은 그 권한으로 덮어씀
+-- (DB 에서 직접 부여한 ROLE_ADMIN 도 유지됨, user_roles 테이블은 확인용으로 남겨 두며 더 이상 읽지 않음)
+DO $$
+DECLARE
+    unknown_roles text;
+BEGIN
+    IF to_regclass('user_roles') IS NULL THEN
+        RETURN;
+    END IF;
+
+    UPDATE users u
+       SET role_mask = r.mask
+      FROM (SELECT user_user_id,
+                   bit_or(CASE roles WHEN 'ROLE_USER' THEN 1 WHEN 'ROLE_ADMIN' THEN 2 ELSE 0 END) AS mask
+              FROM user_roles
+             GROUP BY user_user_id) r
+     WHERE u.user_id = r.user_user_id;
+
+    -- 알 수 없는 권한은 옮기지 않음 (Role 에 추가한 뒤 다시 옮겨야 함)
+    SELECT string_agg(DISTINCT roles, ', ') INTO unknown_roles
+      FROM user_roles
+     WHERE roles NOT IN ('ROLE_USER', 'ROLE_ADMIN');
+    IF unknown_roles IS NOT NULL THEN
+        RAISE WARNING 'user_roles 의 알 수 없는 권한은 role_mask 로 옮기지 않았습니다: %', unknown_roles;
+    END IF;
+END $$;
@@ -0,0 +1,26 @@
+-- 정규화(앞뒤 공백 제거, 소문자) 이전에 저장된 이메일 변환
+-- 정규화하면 다른 계정과 같아지는 이메일은 어느 쪽도 바꾸지 않고 남겨 두며 (unique 제약 위반 방지),
+-- 남은 이메일은 부분 인덱스로 대소문자 구분 없이 찾아 로그인, 가입 중복 확인에 사용함 (UserRepository.findByLegacyEmail)
+DO $$
+DECLARE
+    remaining bigint;
+BEGIN
+    IF to_regclass('users') IS NULL THEN
+        RETURN;
+    END IF;
+
+    UPDATE users u
+       SET email = lower(trim(u.email))
+     WHERE u.email <> lower(trim(u.email))
+       AND NOT EXISTS (SELECT 1
+                         FROM users o
+                        WHERE o.user_id <> u.user_id
+                          AND lower(trim(o.email)) = lower(trim(u.email)));
+
+    CREATE INDEX IF NOT EXISTS users_legacy_email_idx ON users (lower(trim(email))) WHERE email <> lower(trim(email));
+
+    SELECT count(*) INTO remaining FROM users WHERE email <> lower(trim(email));
+    IF remaining > 0 THEN
+        RAISE WARNING '대소문자만 다른 이메일이 있어 정규화하지 못한 회원이 % 명 있습니다.', remaining;
+    END IF;
+END $$;
@@ -0,0 +1,199 @@
+package com.june.swu.domain.post.service;
+
+import com.june.swu.domain.post.entity.FoodCategory;
+import com.june.swu.domain.post.entity.Post;
+import com.june.swu.domain.post.exception.CAlreadyParticipatedException;
+import com.june.swu.domain.post.exception.CParticipationNotFoundException;
+import com.june.swu.domain.post.exception.CPostFullException;
+import com.june.swu.domain.post.repository.ParticipationRepository;
+import com.june.swu.domain.post.repository.PostRepository;
+import com.june.swu.domain.token.config.JwtPrincipal;
+import com.june.swu.domain.user.entity.User;
+import com.june.swu.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 게시글에 참여 요청이 동시에 몰리는 상황에서 모집 인원을 넘겨 참여시키지 않는지 확인합니다.
+ * 각 요청이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고, 만든 데이터는 직접 정리합니다.
+ */
+@SpringBootTest
+class ParticipationServiceConcurrencyTest {
+    private static final int RECRUITMENT = 10;
+    private static final int APPLICANTS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<JwtPrincipal> principals = new ArrayList<>();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i <= APPLICANTS; i++) {
+            users.add(User.builder()
+                    .email("join" + i + "@swu.com")
+                    .password("password")
+                    .name("참여자" + i)
+                    .nickName("join" + i)
+                    .roles(Collections.singletonList("ROLE_USER"))
+                    .build());
+        }
+        userRepository.saveAll(users);
+        users.forEach(user -> principals.add(new JwtPrincipal(user.getUserId(), user.getRoles())));
+
+        // 첫 번째 회원이 작성자, 나머지가 참여 신청자
+        post = postRepository.save(Post.builder()
+                .creator(users.get(0))
+                .title("마감 직전 공동 주문")
+                .orderAt(LocalDateTime.now().plusHours(1))
+                .recruitment(RECRUITMENT)
+                .foodCategory(FoodCategory.한식)
+                .restaurantPoint(new GeometryFactory(new PrecisionModel(), 4326).createPoint(new Coordinate(37.5, 127.0)))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> participationRepository.deleteByPostId(post.getId()));
+        postRepository.delete(post);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedRecruitment() throws Exception {
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 1; i <= APPLICANTS; i++) {
+            JwtPrincipal principal = principals.get(i);
+            tasks.add(() -> {
+                try {
+                    participationService.join(post.getId(), principal);
+                    joined.incrementAndGet();
+                } catch (CPostFullException e) {
+                    full.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(joined.get()).isEqualTo(RECRUITMENT);
+        assertThat(full.get()).isEqualTo(APPLICANTS - RECRUITMENT);
+        assertThat(postRepository.findParticipantCount(post.getId())).isEqualTo(RECRUITMENT);
+        assertThat(participationRepository.findParticipants(post.getId())).hasSize(RECRUITMENT);
+    }
+
+    @Test
+    void concurrentJoinsBySameUserTakeOneSeat() throws Exception {
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+
+        JwtPrincipal principal = principals.get(1);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                try {
+                    participationService.join(post.getId(), principal);
+                    joined.incrementAndGet();
+                } catch (CAlreadyParticipatedException e) {
+                    duplicated.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(joined.get()).isEqualTo(1);
+        assertThat(duplicated.get()).isEqualTo(THREADS - 1);
+        assertThat(postRepository.findParticipantCount(post.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void leaveReturnsSeatOnlyOnce() throws Exception {
+        JwtPrincipal principal = principals.get(1);
+        participationService.join(post.getId(), principal);
+
+        AtomicInteger left = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                try {
+                    participationService.leave(post.getId(), principal);
+                    left.incrementAndGet();
+                } catch (CParticipationNotFoundException ignored) {
+                    // 먼저 처리된 취소 요청이 있음
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(left.get()).isEqualTo(1);
+        assertThat(postRepository.findParticipantCount(post.getId())).isZero();
+    }
+
+    /**
+     * 모든 작업이 동시에 출발하도록 맞춘 뒤 실행합니다.
+     */
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return task.call();
+                }));
+            }
+
+            ready.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.june.swu.domain.post.service;
+
+import com.june.swu.domain.post.dto.response.PostResponseDto;
+import com.june.swu.domain.post.entity.FoodCategory;
+import com.june.swu.domain.post.entity.Post;
+import com.june.swu.domain.post.index.PostTitleIndex;
+import com.june.swu.domain.user.entity.User;
+import com.june.swu.global.common.pagination.CursorSlice;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostServiceQueryCountTest {
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostTitleIndex postTitleIndex;
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+        // 게시글마다 작성자가 다르도록 저장해 작성자 조회가 N+1로 이어지는지 확인
+        for (int i = 0; i < PAGE_SIZE + 1; i++) {
+            User creator = User.builder()
+                    .email("count" + i + "@swu.com")
+                    .password("password")
+                    .name("작성자" + i)
+                    .nickName("nick" + i)
+                    .roles(Collections.singletonList("ROLE_USER"))
+                    .build();
+            entityManager.persist(creator);
+
+            Post post = Post.builder()
+                    .creator(creator)
+                    .title("같이 시켜먹어요 " + i)
+                    .orderAt(LocalDateTime.now().plusHours(1))
+                    .recruitment(4)
+                    .foodCategory(FoodCategory.한식)
+                    .restaurantPoint(geometryFactory.createPoint(new Coordinate(37.5, 127.0)))
+                    .build();
+            entityManager.persist(post);
+
+            // 테스트 트랜잭션은 커밋되지 않으므로 제목 색인에는 직접 등록
+            postTitleIndex.put(post.getId(), post.getTitle());
+            postIds.add(post.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postIds.forEach(postTitleIndex::remove);
+    }
+
+    @Test
+    void postListPageIsLoadedWithSingleStatement() {
+        CursorSlice<PostResponseDto> slice = postService.getPostListWithPagination(null, PAGE_SIZE);
+
+        assertThat(slice.getContent()).hasSize(PAGE_SIZE);
+        assertThat(slice.getContent()).allMatch(post -> post.getCreatorName().startsWith("작성자"));
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keywordSearchPageIsLoadedWithSingleStatement() {
+        CursorSlice<PostResponseDto> slice =
+                postService.getPostListByKeywordWithPagination(null, PAGE_SIZE, "시켜먹어요");
+
+        assertThat(slice.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,60 @@
+package com.june.swu.domain.user.controller;
+
+import com.june.swu.domain.token.config.JwtProvider;
+import com.june.swu.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class UserControllerSessionTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void languageParameterDoesNotCreateSession() throws Exception {
+        User user = User.builder()
+                .email("session@swu.com")
+                .password("password")
+                .name("세션")
+                .nickName("session")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+
+        String accessToken = jwtProvider
+                .createTokenDto(user.getId(), Collections.singletonList("ROLE_USER"), user.getEmail())
+                .getAccessToken();
+
+        // 보안 필터 체인부터 컨트롤러까지 거친 뒤에도 세션이 만들어지지 않아야 함
+        MvcResult result = mockMvc.perform(get("/api/user/id/{userId}", user.getId())
+                        .param("lang", "en")
+                        .header("X-AUTH-TOKEN", accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+}
@@ -0,0 +1,56 @@
+package com.june.swu.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatelessLocaleResolverTest {
+    private final StatelessLocaleResolver localeResolver =
+            new StatelessLocaleResolver(List.of(Locale.KOREAN, Locale.ENGLISH), Locale.KOREAN);
+
+    @Test
+    void langParameterTakesPrecedenceOverHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("lang", "en");
+        request.addHeader("Accept-Language", "ko-KR,ko;q=0.9");
+
+        assertThat(localeResolver.resolveLocale(request)).isEqualTo(Locale.ENGLISH);
+    }
+
+    @Test
+    void acceptLanguageHeaderIsMatchedToSupportedLocale() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "fr-FR,en-US;q=0.8,ko;q=0.5");
+
+        assertThat(localeResolver.resolveLocale(request)).isEqualTo(Locale.ENGLISH);
+    }
+
+    @Test
+    void unsupportedOrMalformedLanguageFallsBackToDefault() {
+        MockHttpServletRequest unsupported = new MockHttpServletRequest();
+        unsupported.addParameter("lang", "fr");
+        unsupported.addHeader("Accept-Language", "fr-FR");
+
+        MockHttpServletRequest malformed = new MockHttpServletRequest();
+        malformed.addHeader("Accept-Language", "en;q=abc");
+
+        assertThat(localeResolver.resolveLocale(unsupported)).isEqualTo(Locale.KOREAN);
+        assertThat(localeResolver.resolveLocale(malformed)).isEqualTo(Locale.KOREAN);
+    }
+
+    @Test
+    void resolvingLocaleDoesNotCreateSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("lang", "en");
+        request.addHeader("Accept-Language", "en-US");
+
+        localeResolver.resolveLocale(request);
+        localeResolver.resolveLocale(request);
+
+        assertThat(request.getSession(false)).isNull();
+    }
+}